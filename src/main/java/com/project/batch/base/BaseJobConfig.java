@@ -1,10 +1,138 @@
 package com.project.batch.base;
 
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
 import com.project.batch.listener.BatchJobExecutionListener;
+import com.project.batch.model.Post;
+import com.project.batch.processor.ChangeDetectionProcessor;
+import com.project.batch.service.ContentHashStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.Future;
 
 @RequiredArgsConstructor
 public abstract class BaseJobConfig {
-}
\ No newline at end of file
+
+    public static final String PROCESSING_INLINE = "inline";
+    public static final String PROCESSING_ASYNC = "async";
+
+    public static final String TRANSFORM_COPY = "copy";
+    public static final String TRANSFORM_IN_PLACE = "in-place";
+
+    public static final String WRITER_LOG = "log";
+    public static final String WRITER_JDBC = "jdbc";
+    public static final String WRITER_COLUMNAR = "columnar";
+
+    protected int calculateOptimalChunkSize() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return Math.max(5, cores * 2);
+    }
+
+    /**
+     * Chunk 기반 Step을 생성합니다.
+     * <p>
+     * - inline: Processor가 청크 스레드에서 아이템마다 순서대로 실행
+     * - async : Processor를 processingExecutor에서 동시에 실행(AsyncItemProcessor)하고,
+     *           Writer(AsyncItemWriter)가 Future를 입력 순서대로 풀어 기존 Writer에 넘김
+     *
+     * @param writeListener null이 아니면 Step에 등록 (async 모드에서는 Future 청크를 받음)
+     * @param stepExecutor  null이 아니면 청크 자체를 여러 스레드에서 실행 (멀티스레드 Step)
+     */
+    protected <I, O> Step buildChunkStep(StepBuilder stepBuilder, int chunkSize,
+                                         PlatformTransactionManager transactionManager,
+                                         ItemReader<I> reader, ItemProcessor<I, O> processor, ItemWriter<O> writer,
+                                         ItemWriteListener<Object> writeListener,
+                                         String processingMode, TaskExecutor processingExecutor,
+                                         TaskExecutor stepExecutor) {
+        if (PROCESSING_ASYNC.equalsIgnoreCase(processingMode)) {
+            SimpleStepBuilder<I, Future<O>> builder = stepBuilder.<I, Future<O>>chunk(chunkSize, transactionManager)
+                    .reader(reader)
+                    .processor(asyncProcessor(processor, processingExecutor))
+                    .writer(asyncWriter(writer));
+            // AsyncItemWriter로 감싸면 Writer의 Listener가 자동 등록되지 않으므로 직접 등록
+            if (writer instanceof StepExecutionListener listener) {
+                builder.listener(listener);
+            }
+            if (writeListener != null) {
+                builder.listener(writeListener);
+            }
+            return build(builder, stepExecutor);
+        }
+
+        SimpleStepBuilder<I, O> builder = stepBuilder.<I, O>chunk(chunkSize, transactionManager)
+                .reader(reader)
+                .processor(processor)
+                .writer(writer);
+        if (writeListener != null) {
+            builder.listener(writeListener);
+        }
+        return build(builder, stepExecutor);
+    }
+
+    private Step build(SimpleStepBuilder<?, ?> builder, TaskExecutor stepExecutor) {
+        if (stepExecutor != null) {
+            builder.taskExecutor(stepExecutor);
+        }
+        return builder.build();
+    }
+
+    /**
+     * filter가 null을 반환한(걸러진) 아이템은 processor를 거치지 않도록 두 Processor를 연결합니다.
+     */
+    protected <I, O> ItemProcessor<I, O> compose(ItemProcessor<I, I> filter, ItemProcessor<I, O> processor) {
+        return item -> {
+            I filtered = filter.process(item);
+            return filtered != null ? processor.process(filtered) : null;
+        };
+    }
+
+    /**
+     * 변경 감지가 켜져 있으면 내용이 바뀐 Post만 processor로 전달하도록 ChangeDetectionProcessor를 앞에 연결합니다.
+     *
+     * @param jobName 해시를 보관하는 Job 이름
+     */
+    protected <O> ItemProcessor<Post, O> withChangeDetection(ContentHashStore contentHashStore, String jobName,
+                                                            ItemProcessor<Post, O> processor) {
+        if (!contentHashStore.isEnabled()) {
+            return processor;
+        }
+        return compose(new ChangeDetectionProcessor(contentHashStore, jobName), processor);
+    }
+
+    protected <I, O> AsyncItemProcessor<I, O> asyncProcessor(ItemProcessor<I, O> delegate, TaskExecutor taskExecutor) {
+        AsyncItemProcessor<I, O> asyncItemProcessor = new AsyncItemProcessor<>();
+        asyncItemProcessor.setDelegate(delegate);
+        asyncItemProcessor.setTaskExecutor(taskExecutor);
+        try {
+            asyncItemProcessor.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR, "Failed to initialize AsyncItemProcessor", e);
+        }
+        return asyncItemProcessor;
+    }
+
+    protected <T> AsyncItemWriter<T> asyncWriter(ItemWriter<T> delegate) {
+        AsyncItemWriter<T> asyncItemWriter = new AsyncItemWriter<>();
+        asyncItemWriter.setDelegate(delegate);
+        try {
+            asyncItemWriter.afterPropertiesSet();
+        } catch (Exception e) {
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR, "Failed to initialize AsyncItemWriter", e);
+        }
+        return asyncItemWriter;
+    }
+}
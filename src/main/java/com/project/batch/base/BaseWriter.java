@@ -1,6 +1,7 @@
 package com.project.batch.base;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 
 import java.util.List;
@@ -8,7 +9,9 @@ import java.util.List;
 @Slf4j
 public abstract class BaseWriter<T> implements ItemWriter<T> {
 
-    public void write(List<? extends T> items) throws Exception {
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        List<? extends T> items = chunk.getItems();
         try {
             log.debug("Writing {} items", items.size());
             doWrite(items);
@@ -20,4 +23,4 @@ public abstract class BaseWriter<T> implements ItemWriter<T> {
     }
     
     protected abstract void doWrite(List<? extends T> items) throws Exception;
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.project.batch.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 압축 전송 요청 및 응답 자동 해제 인터셉터 (simple, jdk 엔진용).
+ * <p>
+ * Accept-Encoding: gzip, deflate를 붙여 요청하고, 압축된 응답은 본문을 읽는 동안 스트림으로 풀어서 돌려주므로
+ * 호출 측(스트리밍 디코딩)은 압축 여부를 알 필요가 없습니다. pooled 엔진은 Apache HttpClient가 같은 처리를 자체적으로 합니다.
+ */
+public class ContentEncodingInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+        ClientHttpResponse response = execution.execute(request, body);
+
+        String encoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+        HttpStatusCode status = response.getStatusCode();
+        // 본문이 없는 응답은 압축 헤더가 있어도 풀 것이 없음
+        if (encoding == null || status.isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                || status.isSameCodeAs(HttpStatus.NO_CONTENT)) {
+            return response;
+        }
+
+        return switch (encoding.trim().toLowerCase()) {
+            case "gzip", "x-gzip", "deflate" -> new DecodedResponse(response, encoding.trim().toLowerCase());
+            default -> response;
+        };
+    }
+
+    /**
+     * 압축을 푼 본문을 돌려주는 응답. 본문 길이가 달라지므로 Content-Encoding/Content-Length 헤더는 제거합니다.
+     */
+    private static final class DecodedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final String encoding;
+        private final HttpHeaders headers;
+        private InputStream body;
+
+        private DecodedResponse(ClientHttpResponse delegate, String encoding) {
+            this.delegate = delegate;
+            this.encoding = encoding;
+            this.headers = new HttpHeaders();
+            this.headers.putAll(delegate.getHeaders());
+            this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+            this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                InputStream raw = delegate.getBody();
+                body = "deflate".equals(encoding) ? new InflaterInputStream(raw) : new GZIPInputStream(raw);
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
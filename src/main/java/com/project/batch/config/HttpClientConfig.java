@@ -1,18 +1,159 @@
 package com.project.batch.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * RestTemplate이 사용할 HTTP 클라이언트 엔진 설정입니다.
+ * <p>
+ * - simple : HttpURLConnection 기반 (요청마다 커넥션, 풀 없음)
+ * - pooled : Apache HttpClient 5 커넥션 풀 (keep-alive, 전체/라우트별 최대 커넥션 제한)
+ * - jdk    : java.net.http.HttpClient (HTTP/2 멀티플렉싱 선택 가능)
+ * 압축 전송을 켜면 모든 엔진이 gzip/deflate 응답을 요청하고 읽는 동안 자동으로 풉니다.
+ */
+@Slf4j
 @Configuration
 public class HttpClientConfig {
 
+    @Value("${batch.http.engine:simple}")
+    private String engine;
+
+    @Value("${batch.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMs;
+
+    @Value("${batch.http.read-timeout-ms:10000}")
+    private int readTimeoutMs;
+
+    @Value("${batch.http.pool.max-total:20}")
+    private int maxTotal;
+
+    @Value("${batch.http.pool.max-per-route:10}")
+    private int maxPerRoute;
+
+    @Value("${batch.http.pool.api-host:https://jsonplaceholder.typicode.com}")
+    private String apiHost;
+
+    @Value("${batch.http.pool.api-max-per-route:0}")
+    private int apiMaxPerRoute;
+
+    @Value("${batch.http.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${batch.http.http2.enabled:false}")
+    private boolean http2Enabled;
+
+    // Accept-Encoding: gzip, deflate 요청 및 응답 자동 해제
+    @Value("${batch.http.compression.enabled:true}")
+    private boolean compressionEnabled;
+
     @Bean
-    public RestTemplate restTemplate() {
+    public RestTemplate restTemplate(ObjectProvider<PoolingHttpClientConnectionManager> connectionManager) {
+        ClientHttpRequestFactory factory = switch (engine.toLowerCase()) {
+            case "pooled" -> pooledRequestFactory(connectionManager.getObject());
+            case "jdk" -> jdkRequestFactory();
+            default -> simpleRequestFactory();
+        };
+        RestTemplate restTemplate = new RestTemplate(factory);
+
+        // pooled 엔진은 Apache HttpClient가 직접 압축 요청/해제
+        if (compressionEnabled && !"pooled".equalsIgnoreCase(engine)) {
+            restTemplate.getInterceptors().add(new ContentEncodingInterceptor());
+        }
+
+        log.info("RestTemplate configured with HTTP engine: {}, compression: {}", engine, compressionEnabled);
+        return restTemplate;
+    }
+
+    /**
+     * pooled 엔진에서만 생성되는 커넥션 풀. 풀 통계(leased/pending/available) 조회에도 사용됩니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "batch.http.engine", havingValue = "pooled")
+    public PoolingHttpClientConnectionManager pooledConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .build();
+
+        // API 호스트는 별도의 라우트 제한 적용 (파티션 수에 맞춰 조정)
+        if (apiMaxPerRoute > 0) {
+            connectionManager.setMaxPerRoute(apiRoute(), apiMaxPerRoute);
+        }
+
+        log.info("HTTP connection pool configured: MaxTotal={}, MaxPerRoute={}, ApiMaxPerRoute={}, KeepAlive={}s",
+                maxTotal, maxPerRoute, apiMaxPerRoute > 0 ? apiMaxPerRoute : maxPerRoute, keepAliveSeconds);
+
+        return connectionManager;
+    }
+
+    private ClientHttpRequestFactory simpleRequestFactory() {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000);
-        factory.setReadTimeout(10000);
-        return new RestTemplate(factory);
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+        return factory;
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(PoolingHttpClientConnectionManager connectionManager) {
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds));
+
+        // 기본값은 Accept-Encoding 요청 + 응답 자동 해제
+        if (!compressionEnabled) {
+            builder.disableContentCompression();
+        }
+        CloseableHttpClient httpClient = builder.build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        // 풀에서 커넥션을 빌려오기까지의 대기 시간
+        factory.setConnectionRequestTimeout(connectTimeoutMs);
+        return factory;
+    }
+
+    private ClientHttpRequestFactory jdkRequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return factory;
+    }
+
+    private HttpRoute apiRoute() {
+        URI uri = URI.create(apiHost);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
     }
-}
\ No newline at end of file
+}
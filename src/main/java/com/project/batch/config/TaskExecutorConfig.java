@@ -1,11 +1,15 @@
 package com.project.batch.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Slf4j
 @Configuration
 public class TaskExecutorConfig {
@@ -52,6 +56,8 @@ public class TaskExecutorConfig {
         executor.setMaxPoolSize(cores * 4);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("HeavyBatch-");
+        // async 처리 모드에서 여러 Worker가 동시에 제출해도 거부 대신 제출 스레드에서 처리 (자연스러운 배압)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
         executor.initialize();
@@ -61,4 +67,34 @@ public class TaskExecutorConfig {
 
         return executor;
     }
+
+    @Bean(name = "prefetchTaskExecutor")
+    public TaskExecutor prefetchTaskExecutor(@Value("${batch.reader.prefetch.pages:4}") int prefetchPages) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        // 선행 조회(prefetch) 페이지 수만큼만 스레드를 유지 - 페이지 요청은 I/O 대기 위주
+        executor.setCorePoolSize(Math.max(1, prefetchPages));
+        executor.setMaxPoolSize(Math.max(1, prefetchPages));
+        executor.setQueueCapacity(prefetchPages * 2);
+        executor.setThreadNamePrefix("PrefetchBatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        log.info("Prefetch TaskExecutor configured: CorePool={}, MaxPool={}, QueueCapacity={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    @Bean(name = "virtualTaskExecutor")
+    public TaskExecutor virtualTaskExecutor() {
+        // 요청 1건당 가상 스레드 1개 - 블로킹 I/O 대기가 플랫폼 스레드나 ForkJoinPool을 점유하지 않음
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("VirtualBatch-");
+        executor.setVirtualThreads(true);
+
+        log.info("Virtual TaskExecutor configured: ThreadNamePrefix={}", executor.getThreadNamePrefix());
+
+        return executor;
+    }
 }
\ No newline at end of file
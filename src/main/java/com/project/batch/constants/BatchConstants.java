@@ -19,6 +19,7 @@ public final class BatchConstants {
         public static final String DATA_ACCESS_ERROR = "DATA_001";
         public static final String VALIDATION_ERROR = "VALID_001";
         public static final String JOB_NOT_FOUND = "JOB_002";
+        public static final String CIRCUIT_OPEN = "API_001";
         
         private ErrorCodes() {}
     }
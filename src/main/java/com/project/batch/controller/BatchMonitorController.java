@@ -0,0 +1,85 @@
+package com.project.batch.controller;
+
+import com.project.batch.service.BatchMonitorService;
+import com.project.batch.vo.CircuitBreakerVo;
+import com.project.batch.vo.ConcurrencyLimitVo;
+import com.project.batch.vo.HttpPoolStatsVo;
+import com.project.batch.vo.PageSizeVo;
+import com.project.batch.vo.ResponseCacheVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/monitor")
+@RequiredArgsConstructor
+public class BatchMonitorController {
+
+    private final BatchMonitorService batchMonitorService;
+
+    @GetMapping("/http-pool")
+    public ResponseEntity<HttpPoolStatsVo> getHttpPoolStats() {
+        try {
+            return ResponseEntity.ok(batchMonitorService.getHttpPoolStats());
+        } catch (Exception e) {
+            log.error("Failed to get HTTP pool stats", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/concurrency-limit")
+    public ResponseEntity<ConcurrencyLimitVo> getConcurrencyLimit() {
+        try {
+            return ResponseEntity.ok(batchMonitorService.getConcurrencyLimit());
+        } catch (Exception e) {
+            log.error("Failed to get concurrency limit", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/circuit-breaker")
+    public ResponseEntity<CircuitBreakerVo> getCircuitBreaker() {
+        try {
+            return ResponseEntity.ok(batchMonitorService.getCircuitBreaker());
+        } catch (Exception e) {
+            log.error("Failed to get circuit breaker state", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/circuit-breaker/reset")
+    public ResponseEntity<CircuitBreakerVo> resetCircuitBreaker() {
+        try {
+            return ResponseEntity.ok(batchMonitorService.resetCircuitBreaker());
+        } catch (Exception e) {
+            log.error("Failed to reset circuit breaker", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/response-cache")
+    public ResponseEntity<ResponseCacheVo> getResponseCache() {
+        try {
+            return ResponseEntity.ok(batchMonitorService.getResponseCache());
+        } catch (Exception e) {
+            log.error("Failed to get response cache stats", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/page-size")
+    public ResponseEntity<PageSizeVo> getPageSize() {
+        try {
+            return ResponseEntity.ok(batchMonitorService.getPageSize());
+        } catch (Exception e) {
+            log.error("Failed to get page size stats", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.batch.dao;
+
+import com.project.batch.vo.PartitionWorkVo;
+import org.apache.ibatis.annotations.*;
+
+@Mapper
+public interface PartitionWorkDao {
+
+    @Insert("INSERT INTO tb_partition_work (queue_key, start_page, end_page, status) " +
+            "VALUES (#{queueKey}, #{startPage}, #{endPage}, 'READY')")
+    int insertBlock(PartitionWorkVo partitionWorkVo);
+
+    @Select("SELECT id, queue_key, start_page, end_page, status, claimed_by, create_date, update_date " +
+            "FROM tb_partition_work WHERE queue_key = #{queueKey} AND status = 'READY' " +
+            "ORDER BY start_page LIMIT 1")
+    PartitionWorkVo getNextReadyBlock(@Param("queueKey") String queueKey);
+
+    @Update("UPDATE tb_partition_work SET status = 'CLAIMED', claimed_by = #{partitionId}, update_date = CURRENT_TIMESTAMP " +
+            "WHERE id = #{id} AND status = 'READY'")
+    int claimBlock(@Param("id") Long id, @Param("partitionId") int partitionId);
+
+    @Update("UPDATE tb_partition_work SET status = 'DONE', update_date = CURRENT_TIMESTAMP WHERE id = #{id}")
+    int completeBlock(@Param("id") Long id);
+
+    @Update("UPDATE tb_partition_work SET status = 'READY', claimed_by = NULL, update_date = CURRENT_TIMESTAMP " +
+            "WHERE queue_key = #{queueKey} AND claimed_by = #{partitionId} AND status = 'CLAIMED' AND id <> #{keepBlockId}")
+    int releaseClaimedBlocks(@Param("queueKey") String queueKey, @Param("partitionId") int partitionId,
+                             @Param("keepBlockId") long keepBlockId);
+
+    @Update("UPDATE tb_partition_work SET status = 'SKIPPED', update_date = CURRENT_TIMESTAMP " +
+            "WHERE queue_key = #{queueKey} AND status = 'READY' AND start_page > #{page}")
+    int skipBlocksAfter(@Param("queueKey") String queueKey, @Param("page") int page);
+
+    @Delete("DELETE FROM tb_partition_work WHERE queue_key = #{queueKey}")
+    int deleteBlocks(@Param("queueKey") String queueKey);
+}
@@ -0,0 +1,19 @@
+package com.project.batch.dao;
+
+import com.project.batch.vo.SyncStateVo;
+import org.apache.ibatis.annotations.*;
+
+@Mapper
+public interface SyncStateDao {
+
+    @Select("SELECT job_name, high_water_mark, runs_since_full, last_full_sync_date, update_date " +
+            "FROM tb_sync_state WHERE job_name = #{jobName}")
+    SyncStateVo getSyncState(@Param("jobName") String jobName);
+
+    @Update("MERGE INTO tb_sync_state (job_name, high_water_mark, runs_since_full, last_full_sync_date, update_date) " +
+            "KEY (job_name) VALUES (#{jobName}, #{highWaterMark}, #{runsSinceFull}, #{lastFullSyncDate}, CURRENT_TIMESTAMP)")
+    int saveSyncState(SyncStateVo syncStateVo);
+
+    @Delete("DELETE FROM tb_sync_state WHERE job_name = #{jobName}")
+    int deleteSyncState(@Param("jobName") String jobName);
+}
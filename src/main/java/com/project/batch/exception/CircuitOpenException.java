@@ -0,0 +1,13 @@
+package com.project.batch.exception;
+
+import com.project.batch.constants.BatchConstants;
+
+/**
+ * 서킷 브레이커가 열려 있어 외부 API 요청을 보내지 않은 경우 발생합니다.
+ */
+public class CircuitOpenException extends BatchException {
+
+    public CircuitOpenException(String url) {
+        super(BatchConstants.ErrorCodes.CIRCUIT_OPEN, "Circuit open - request not sent: " + url);
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.batch.job;
+
+import com.project.batch.base.BaseJobConfig;
+import com.project.batch.listener.BatchJobExecutionListener;
+import com.project.batch.listener.RunDirectoryCleanupListener;
+import com.project.batch.model.Post;
+import com.project.batch.reader.PartitionedMockApiItemReader;
+import com.project.batch.tasklet.UserStatsMergeTasklet;
+import com.project.batch.writer.UserAggregationWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+/**
+ * 사용자별 Post 통계 집계 Job 설정 클래스입니다.
+ * <p>
+ * - Job: userAggregationJob
+ * - Step: userAggregationStep (파티셔닝 - 파티션별로 집계 후 정렬된 런 파일로 내보냄)
+ * - Step: userStatsMergeStep (모든 런 파일을 k-way 병합해 TB_USER_POST_STATS에 저장)
+ * <p>
+ * Post를 리스트에 모으지 않고 사용자별 누적기에 바로 합치므로, 메모리는 사용자 수(한도 초과 시 디스크로 내보냄)에만 비례합니다.
+ * <p>
+ * 파티션의 누적 결과는 Step 종료 시에만 런 파일로 남으므로 이어서 재시작하면 일부 통계만 병합됩니다.
+ * 재시작을 막고, 실패한 실행은 새 JobParameters로 처음부터 다시 집계합니다. (남은 런 디렉터리는 RunDirectoryCleanupListener가 정리)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AggregationJobConfig extends BaseJobConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobExplorer jobExplorer;
+
+    @Value("${batch.aggregation.spill-dir:./data/aggregation}")
+    private String spillDir;
+
+    // 병합 결과를 DB에 저장할 때의 JDBC 배치 크기
+    @Value("${batch.aggregation.write-batch-size:500}")
+    private int writeBatchSize;
+
+    @Bean
+    public Job userAggregationJob(JobRepository jobRepository, Step userAggregationStep, Step userStatsMergeStep) {
+        return new JobBuilder("userAggregationJob", jobRepository)
+                .listener(new BatchJobExecutionListener())
+                .listener(new RunDirectoryCleanupListener(jobExplorer, spillDir))
+                .preventRestart()
+                .start(userAggregationStep)
+                .next(userStatsMergeStep)
+                .build();
+    }
+
+    /**
+     * partitionedJob과 같은 파티셔너로 페이지를 나누되, 원본 본문 길이를 집계하도록 파티션 정보 추가는 끕니다.
+     */
+    @Bean
+    public Step userAggregationStep(JobRepository jobRepository,
+                                    @Qualifier("parallelTaskExecutor") TaskExecutor taskExecutor,
+                                    @Qualifier("partitioner") Partitioner partitioner,
+                                    Step userAggregationWorkerStep) {
+        return new StepBuilder("userAggregationStep", jobRepository)
+                .partitioner("userAggregationWorkerStep", rawBodyPartitioner(partitioner))
+                .step(userAggregationWorkerStep)
+                .gridSize(Runtime.getRuntime().availableProcessors())
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step userAggregationWorkerStep(JobRepository jobRepository,
+                                          PlatformTransactionManager transactionManager,
+                                          PartitionedMockApiItemReader partitionedMockApiItemReader,
+                                          UserAggregationWriter userAggregationWriter) {
+        return new StepBuilder("userAggregationWorkerStep", jobRepository)
+                .<Post, Post>chunk(calculateOptimalChunkSize(), transactionManager)
+                .reader(partitionedMockApiItemReader)
+                .writer(userAggregationWriter)
+                .build();
+    }
+
+    @Bean
+    public Step userStatsMergeStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
+        return new StepBuilder("userStatsMergeStep", jobRepository)
+                .tasklet(new UserStatsMergeTasklet(jdbcTemplate, spillDir, writeBatchSize), transactionManager)
+                .build();
+    }
+
+    private Partitioner rawBodyPartitioner(Partitioner delegate) {
+        return gridSize -> {
+            Map<String, ExecutionContext> partitions = delegate.partition(gridSize);
+            partitions.values().forEach(context -> context.put("appendPartitionInfo", Boolean.FALSE));
+            return partitions;
+        };
+    }
+}
@@ -4,25 +4,47 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
 import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import com.project.batch.base.BaseJobConfig;
 import com.project.batch.listener.BatchJobExecutionListener;
+import com.project.batch.listener.ChangeDetectionJobListener;
+import com.project.batch.listener.DeltaSyncJobListener;
+import com.project.batch.listener.DeltaSyncWriteListener;
+import com.project.batch.listener.PartitionWorkJobListener;
+import com.project.batch.listener.RunDirectoryCleanupListener;
 import com.project.batch.model.Post;
+import com.project.batch.processor.DeduplicationProcessor;
 import com.project.batch.reader.PartitionedMockApiItemReader;
+import com.project.batch.reader.SortedRunMergeReader;
+import com.project.batch.repository.PartitionWorkRepository;
+import com.project.batch.service.ContentHashStore;
+import com.project.batch.service.DeltaSyncService;
+import com.project.batch.service.MockApiService;
+import com.project.batch.vo.SourceMetadataVo;
+import com.project.batch.writer.ColumnarPostWriter;
+import com.project.batch.writer.JdbcPostWriter;
+import com.project.batch.writer.SortedRunWriter;
+import com.project.batch.writer.WriteBehindItemWriter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,8 +59,72 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
-public class ParallelJobConfig {
+public class ParallelJobConfig extends BaseJobConfig {
 
+    private static final String PARTITIONED_PREFIX = "[PARTITIONED] ";
+
+    private final PartitionWorkRepository partitionWorkRepository;
+    private final MockApiService mockApiService;
+    private final DeltaSyncService deltaSyncService;
+    private final DeltaSyncJobListener deltaSyncJobListener;
+    private final DeltaSyncWriteListener deltaSyncWriteListener;
+    private final ChangeDetectionJobListener changeDetectionJobListener;
+    private final PartitionWorkJobListener partitionWorkJobListener;
+    private final ContentHashStore contentHashStore;
+    private final JdbcPostWriter jdbcPostWriter;
+    private final ColumnarPostWriter columnarPostWriter;
+    private final PlatformTransactionManager transactionManager;
+
+    // static: 페이지 범위를 파티션 수로 균등 분할 | dynamic: Worker가 공유 작업 큐에서 작은 블록을 선점
+    @Value("${batch.partition.mode:static}")
+    private String partitionMode;
+
+    // dynamic 모드에서 한 번에 선점하는 페이지 블록 크기
+    @Value("${batch.partition.block-pages:10}")
+    private int blockPages;
+
+    // inline: Worker 스레드에서 처리 | async: heavyTaskExecutor에서 동시 처리 (청크 내 입력 순서 유지)
+    @Value("${batch.partitioned.processing:inline}")
+    private String processingMode;
+
+    // copy: 아이템마다 새 Post 생성 | in-place: 읽은 Post를 그대로 가공 (할당 최소화)
+    @Value("${batch.processor.transform:copy}")
+    private String transformMode;
+
+    // log: 처리 결과를 로그로만 출력 | jdbc: TB_POST에 JDBC 배치로 저장 | columnar: 메모리 매핑 컬럼 파일로 저장
+    @Value("${batch.writer.target:log}")
+    private String writerTarget;
+
+    // true면 모든 파티션이 공유하는 ID 비트맵으로 한 실행 내 중복 Post를 걸러냄
+    @Value("${batch.partition.dedup.enabled:false}")
+    private boolean dedupEnabled;
+
+    // 비트맵으로 표현할 ID 범위 (이 이상의 ID도 처리되지만 별도 맵에 보관)
+    @Value("${batch.partition.dedup.expected-max-id:1048576}")
+    private long dedupExpectedMaxId;
+
+    // true면 Worker는 정렬된 런 파일만 만들고, 이후 Step에서 k-way 병합해 정렬된 순서로 기록 (외부 정렬)
+    @Value("${batch.partition.sort.enabled:false}")
+    private boolean sortEnabled;
+
+    @Value("${batch.partition.sort.dir:./data/sort}")
+    private String sortDir;
+
+    // true면 Worker 스레드 대신 전용 Flusher 스레드가 쓰기를 수행 (Write-behind)
+    @Value("${batch.writer.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    // 쓰기 대기 청크 최대 수 - 가득 차면 Worker가 대기
+    @Value("${batch.writer.write-behind.queue-capacity:32}")
+    private int writeBehindQueueCapacity;
+
+    // 한 트랜잭션으로 묶어 기록할 최대 청크 수 (그룹 커밋)
+    @Value("${batch.writer.write-behind.group-size:8}")
+    private int writeBehindGroupSize;
+
+    // 스레드 이름은 변하지 않으므로 본문 접미어를 스레드별로 한 번만 생성
+    private final ThreadLocal<String> processedBySuffix =
+            ThreadLocal.withInitial(() -> " [Processed by: " + Thread.currentThread().getName() + "]");
 
     /**
      * 파티셔닝 기반 병렬처리 Step을 생성합니다.
@@ -48,10 +134,13 @@ public class ParallelJobConfig {
     public Step partitionedStep(JobRepository jobRepository,
                                PlatformTransactionManager transactionManager,
                                @Qualifier("parallelTaskExecutor") TaskExecutor taskExecutor,
-                               PartitionedMockApiItemReader partitionedMockApiItemReader) {
+                               @Qualifier("heavyTaskExecutor") TaskExecutor heavyTaskExecutor,
+                               PartitionedMockApiItemReader partitionedMockApiItemReader,
+                               SortedRunWriter sortedRunWriter) {
         return new StepBuilder("partitionedStep", jobRepository)
                 .partitioner("workerStep", partitioner())
-                .step(workerStep(jobRepository, transactionManager, partitionedMockApiItemReader))
+                .step(workerStep(jobRepository, transactionManager, heavyTaskExecutor,
+                        partitionedMockApiItemReader, sortedRunWriter))
                 .gridSize(Runtime.getRuntime().availableProcessors()) // CPU 코어 수 기반 동적 파티션 분할
                 .taskExecutor(taskExecutor)
                 .build();
@@ -63,56 +152,160 @@ public class ParallelJobConfig {
     @Bean
     public Step workerStep(JobRepository jobRepository,
                           PlatformTransactionManager transactionManager,
-                          PartitionedMockApiItemReader partitionedMockApiItemReader) {
-        return new StepBuilder("workerStep", jobRepository)
+                          @Qualifier("heavyTaskExecutor") TaskExecutor heavyTaskExecutor,
+                          PartitionedMockApiItemReader partitionedMockApiItemReader,
+                          SortedRunWriter sortedRunWriter) {
+        // 정렬 모드에서는 런 파일이 아니라 정렬 출력 Step의 기록으로 high-water mark를 갱신
+        ItemWriter<Post> writer = sortEnabled ? sortedRunWriter : partitionedPostWriter();
+        return buildChunkStep(new StepBuilder("workerStep", jobRepository),
+                calculateOptimalChunkSize(), transactionManager,
+                partitionedMockApiItemReader,
+                withDeduplication(withChangeDetection(contentHashStore, "partitionedJob", partitionedPostProcessor())),
+                writer,
+                sortEnabled ? null : deltaSyncWriteListener,
+                processingMode, heavyTaskExecutor, null);
+    }
+
+    /**
+     * 정렬 출력 Step - 모든 파티션의 런 파일을 정렬 키 순으로 병합해 partitionedPostWriter에 넘깁니다.
+     * (batch.partition.sort.enabled=true일 때만 partitionedJob에 포함)
+     */
+    @Bean
+    public Step sortedOutputStep(JobRepository jobRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 SortedRunMergeReader sortedRunMergeReader) {
+        return new StepBuilder("sortedOutputStep", jobRepository)
                 .<Post, Post>chunk(calculateOptimalChunkSize(), transactionManager)
-                .reader(partitionedMockApiItemReader)
-                .processor(partitionedPostProcessor())
+                .reader(sortedRunMergeReader)
                 .writer(partitionedPostWriter())
+                .listener(deltaSyncWriteListener)
                 .build();
     }
 
+    // 중복 제거가 켜져 있으면 이번 실행에서 처음 보는 ID만 다음 단계로 전달
+    private ItemProcessor<Post, Post> withDeduplication(ItemProcessor<Post, Post> processor) {
+        if (!dedupEnabled) {
+            return processor;
+        }
+        return compose(partitionDeduplicationProcessor(), processor);
+    }
+
     /**
-     * 파티셔너 - 데이터를 범위별로 분할
+     * 모든 workerStep 파티션이 공유하는 중복 제거 Processor (Job 시작 시 ID 집합 초기화)
      */
-    private int calculateOptimalChunkSize() {
-        int cores = Runtime.getRuntime().availableProcessors();
-        return Math.max(5, cores * 2);
+    @Bean
+    public DeduplicationProcessor partitionDeduplicationProcessor() {
+        return new DeduplicationProcessor(dedupExpectedMaxId);
     }
 
+    /**
+     * 파티셔너 - 데이터를 범위별로 분할
+     * <p>
+     * 변경 감지가 켜져 있으면 본문에 파티션/페이지/스레드 접미어를 붙이지 않습니다. (실행마다 달라져 해시가 일치하지 않음)
+     */
     @Bean
     public Partitioner partitioner() {
         return gridSize -> {
-            Map<String, ExecutionContext> partitionMap = new HashMap<>();
+            Map<String, ExecutionContext> partitions = partition(gridSize);
+            if (contentHashStore.isEnabled()) {
+                partitions.values().forEach(context -> context.put("appendPartitionInfo", Boolean.FALSE));
+            }
+            return partitions;
+        };
+    }
 
-            int totalPages = 1000;
-            int pagesPerPartition = (int) Math.ceil((double) totalPages / gridSize);
+    private Map<String, ExecutionContext> partition(int gridSize) {
+        // 실제 데이터 크기로 전체 페이지 수 결정 (빈 페이지 요청/데이터 누락 방지)
+        SourceMetadataVo metadata = mockApiService.probeSourceMetadata(10);
+        int totalPages = metadata.getTotalPages();
+        // 증분 동기화: high-water mark 이후 페이지만 분할
+        int fromPage = deltaSyncService.currentWindow().getFromPage();
+        log.info("Partitioning pages {}-{} ({} items, method: {})",
+                fromPage, totalPages, metadata.getTotalItems(), metadata.getMethod());
 
-            for (int i = 0; i < gridSize; i++) {
-                ExecutionContext executionContext = new ExecutionContext();
+        if ("dynamic".equalsIgnoreCase(partitionMode)) {
+            // 탐색으로 확인한 크기가 아니면(기본 상한) 0 - Worker가 빈 페이지를 데이터 끝으로 판단하는 기준
+            int sourcePages = SourceMetadataVo.METHOD_DEFAULT.equals(metadata.getMethod()) ? 0 : totalPages;
+            return dynamicPartitions(gridSize, fromPage, totalPages, sourcePages);
+        }
 
-                int startPage = (i * pagesPerPartition) + 1;
-                int endPage = Math.min(startPage + pagesPerPartition - 1, totalPages);
+        Map<String, ExecutionContext> partitionMap = new HashMap<>();
 
-                executionContext.putInt("startPage", startPage);
-                executionContext.putInt("endPage", endPage);
-                executionContext.putInt("partitionId", i);
+        int remainingPages = Math.max(0, totalPages - fromPage + 1);
+        int pagesPerPartition = Math.max(1, (int) Math.ceil((double) remainingPages / gridSize));
 
-                partitionMap.put("partition" + i, executionContext);
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext executionContext = new ExecutionContext();
 
-                log.info("Created partition{}: pages {}-{}", i, startPage, endPage);
-            }
+            int startPage = fromPage + (i * pagesPerPartition);
+            int endPage = Math.min(startPage + pagesPerPartition - 1, totalPages);
 
-            return partitionMap;
-        };
+            executionContext.putInt("startPage", startPage);
+            executionContext.putInt("endPage", endPage);
+            executionContext.putInt("partitionId", i);
+
+            partitionMap.put("partition" + i, executionContext);
+
+            log.info("Created partition{}: pages {}-{}", i, startPage, endPage);
+        }
+
+        return partitionMap;
+    }
+
+    /**
+     * 동적 파티셔닝 - 전체 페이지를 blockPages 단위 블록으로 작업 큐(TB_PARTITION_WORK)에 등록하고,
+     * 각 파티션에는 큐 키만 전달합니다. Worker는 큐가 빌 때까지 블록을 하나씩 선점해 처리하므로
+     * 느린 페이지를 만난 파티션이 있어도 나머지 Worker가 남은 블록을 가져가 처리합니다.
+     * <p>
+     * 재시작 시에는 이전 실행의 파티션 ExecutionContext(같은 큐 키)가 그대로 사용되어 남은 블록부터 이어서 처리합니다.
+     * 큐 키는 Job ExecutionContext에도 남겨 Job이 완료되면 PartitionWorkJobListener가 블록을 삭제합니다.
+     */
+    private Map<String, ExecutionContext> dynamicPartitions(int gridSize, int fromPage, int totalPages, int sourcePages) {
+        Map<String, ExecutionContext> partitionMap = new HashMap<>();
+
+        String queueKey = "partitionedJob-" + UUID.randomUUID();
+        partitionWorkRepository.createBlocks(queueKey, fromPage, totalPages, blockPages);
+        // 파티셔너는 partitionedStep 실행 중에 호출되므로 Step 컨텍스트가 등록되어 있음
+        StepSynchronizationManager.getContext().getStepExecution().getJobExecution()
+                .getExecutionContext().putString(PartitionWorkJobListener.KEY_WORK_QUEUE, queueKey);
+
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext executionContext = new ExecutionContext();
+
+            // startPage/endPage는 전체 범위 - 실제 처리 범위는 선점한 블록으로 결정
+            executionContext.putInt("startPage", fromPage);
+            executionContext.putInt("endPage", totalPages);
+            executionContext.putInt("partitionId", i);
+            executionContext.putString("workQueueKey", queueKey);
+            executionContext.putInt("sourcePages", sourcePages);
+
+            partitionMap.put("partition" + i, executionContext);
+        }
+
+        log.info("Created {} dynamic partitions on work queue {} ({} pages, {} pages per block)",
+                gridSize, queueKey, totalPages, blockPages);
+
+        return partitionMap;
     }
 
 
     /**
      * 파티션별 ItemProcessor
+     * <p>
+     * in-place 모드: 읽은 Post를 그대로 가공하고, 처리 시간 측정 없이 DEBUG 레벨에서만 로그를 남깁니다.
      */
     @Bean
     public ItemProcessor<Post, Post> partitionedPostProcessor() {
+        if (TRANSFORM_IN_PLACE.equalsIgnoreCase(transformMode)) {
+            return post -> {
+                post.processInPlace(PARTITIONED_PREFIX, processedBySuffix.get());
+                if (log.isDebugEnabled()) {
+                    log.debug("Partitioned Processing Post ID: {} on {}", post.getId(), Thread.currentThread().getName());
+                }
+                return post;
+            };
+        }
+
         return post -> {
             String threadName = Thread.currentThread().getName();
             long startTime = System.currentTimeMillis();
@@ -120,7 +313,7 @@ public class ParallelJobConfig {
             Post processedPost = Post.builder()
                     .id(post.getId())
                     .userId(post.getUserId())
-                    .title("[PARTITIONED] " + post.getProcessedTitle())
+                    .title(PARTITIONED_PREFIX + post.getProcessedTitle())
                     .body(post.getShortBody() + " [Processed by: " + threadName + "]")
                     .build();
 
@@ -134,9 +327,27 @@ public class ParallelJobConfig {
 
     /**
      * 파티션별 ItemWriter
+     * <p>
+     * batch.writer.target=jdbc이면 JdbcPostWriter로 TB_POST에 저장합니다. (Worker마다 청크 단위 JDBC 배치)
+     * batch.writer.write-behind.enabled=true이면 실제 쓰기를 WriteBehindItemWriter의 Flusher 스레드로 넘깁니다.
+     * 이때 Reader 체크포인트와 작업 블록 완료가 실제 기록보다 먼저 커밋되므로 partitionedJob은 재시작할 수 없습니다.
      */
     @Bean
     public ItemWriter<Post> partitionedPostWriter() {
+        if (WRITER_COLUMNAR.equalsIgnoreCase(writerTarget)) {
+            // 파티션마다 자기 디렉터리에 쓰는 StepScope Writer - Flusher 스레드로 넘기지 않음
+            return columnarPostWriter;
+        }
+        ItemWriter<Post> sink = WRITER_JDBC.equalsIgnoreCase(writerTarget) ? jdbcPostWriter : partitionedLogWriter();
+        if (writeBehindEnabled) {
+            log.info("partitionedPostWriter uses write-behind: queueCapacity={}, groupSize={}",
+                    writeBehindQueueCapacity, writeBehindGroupSize);
+            return new WriteBehindItemWriter<>(sink, transactionManager, writeBehindQueueCapacity, writeBehindGroupSize);
+        }
+        return sink;
+    }
+
+    private ItemWriter<Post> partitionedLogWriter() {
         return chunk -> {
             String threadName = Thread.currentThread().getName();
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss.SSS"));
@@ -160,11 +371,26 @@ public class ParallelJobConfig {
      * 파티셔닝 Job 추가
      */
     @Bean
-    public Job partitionedJob(JobRepository jobRepository, Step partitionedStep) {
-        return new JobBuilder("partitionedJob", jobRepository)
+    public Job partitionedJob(JobRepository jobRepository, JobExplorer jobExplorer,
+                              Step partitionedStep, Step sortedOutputStep) {
+        SimpleJobBuilder builder = new JobBuilder("partitionedJob", jobRepository)
                 .listener(new BatchJobExecutionListener())
-                .start(partitionedStep)
-                .build();
+                .listener(deltaSyncJobListener)
+                .listener(changeDetectionJobListener)
+                .listener(partitionWorkJobListener)
+                .listener(partitionDeduplicationProcessor())
+                .start(partitionedStep);
+        if (sortEnabled) {
+            // 런 파일은 Job 실행별 디렉터리에 있고 Worker의 메모리 버퍼를 거치므로 이어서 재시작할 수 없음
+            builder.next(sortedOutputStep)
+                    .listener(new RunDirectoryCleanupListener(jobExplorer, sortDir))
+                    .preventRestart();
+        }
+        if (writeBehindEnabled) {
+            // 체크포인트가 기록보다 앞서므로 실패한 실행을 이어서 하면 Flush되지 않은 청크가 빠짐 - 새 실행으로 처음부터 다시 처리
+            builder.preventRestart();
+        }
+        return builder.build();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.project.batch.job;
+
+import com.project.batch.base.BaseJobConfig;
+import com.project.batch.listener.BatchJobExecutionListener;
+import com.project.batch.listener.ChangeDetectionJobListener;
+import com.project.batch.listener.DeltaSyncJobListener;
+import com.project.batch.listener.DeltaSyncWriteListener;
+import com.project.batch.model.Post;
+import com.project.batch.reader.ConcurrentMockApiItemReader;
+import com.project.batch.service.ContentHashStore;
+import com.project.batch.tasklet.StagedPipelineTasklet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.builder.TaskletStepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 단계 분리(파이프라인) 처리 Job 설정 클래스입니다.
+ * <p>
+ * - Job: pipelineJob
+ * - Step: pipelineStep
+ * <p>
+ * Chunk Step은 한 스레드 안에서 읽기-가공-쓰기가 순서대로 실행되어 청크마다 시간이 더해지지만,
+ * 이 Job은 Fetch(가상 스레드) → Process(heavyTaskExecutor) → Write(Step 스레드) 단계를 크기가 제한된 큐로 연결해
+ * 세 단계가 동시에 진행되도록 합니다. 커밋은 청크 단위로 유지됩니다.
+ * <p>
+ * Reader가 쓰기보다 앞서 읽으므로 쓰기 완료 위치를 재시작 지점으로 저장할 수 없어 재시작을 막습니다.
+ * 실패한 경우 새 JobParameters로 처음부터 다시 실행합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PipelineJobConfig extends BaseJobConfig {
+
+    private final ConcurrentMockApiItemReader concurrentMockApiItemReader;
+    private final DeltaSyncJobListener deltaSyncJobListener;
+    private final DeltaSyncWriteListener deltaSyncWriteListener;
+    private final ChangeDetectionJobListener changeDetectionJobListener;
+    private final ContentHashStore contentHashStore;
+
+    // 단계 사이 큐 크기 (쓰기보다 앞서 읽어 둘 수 있는 최대 아이템 수)
+    @Value("${batch.pipeline.buffer-capacity:256}")
+    private int bufferCapacity;
+
+    // 페이지를 동시에 요청하는 Fetch 스레드 수
+    @Value("${batch.pipeline.fetch-threads:2}")
+    private int fetchThreads;
+
+    @Bean
+    public Job pipelineJob(JobRepository jobRepository, Step pipelineStep) {
+        return new JobBuilder("pipelineJob", jobRepository)
+                .listener(new BatchJobExecutionListener())
+                .listener(deltaSyncJobListener)
+                .listener(changeDetectionJobListener)
+                .preventRestart()
+                .start(pipelineStep)
+                .build();
+    }
+
+    /**
+     * 단계 분리 Step - Tasklet의 execute() 한 번이 청크 하나의 트랜잭션입니다.
+     */
+    @Bean
+    public Step pipelineStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                             StagedPipelineTasklet<Post, Post> pipelineTasklet,
+                             @Qualifier("postWriter") ItemWriter<Post> postWriter) {
+        TaskletStepBuilder builder = new StepBuilder("pipelineStep", jobRepository)
+                .tasklet(pipelineTasklet, transactionManager);
+        // Tasklet Step은 Writer를 자동으로 Stream 등록하지 않으므로 직접 등록 (예: ColumnarPostWriter)
+        if (postWriter instanceof ItemStream stream) {
+            builder.stream(stream);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 파이프라인 Tasklet - 큐와 실행 상태를 가지므로 Step 실행마다 새 인스턴스를 만듭니다.
+     */
+    @Bean
+    @StepScope
+    public StagedPipelineTasklet<Post, Post> pipelineTasklet(
+            @Qualifier("virtualTaskExecutor") TaskExecutor virtualTaskExecutor,
+            @Qualifier("heavyTaskExecutor") TaskExecutor heavyTaskExecutor,
+            @Qualifier("postProcessor") ItemProcessor<Post, Post> postProcessor,
+            @Qualifier("postWriter") ItemWriter<Post> postWriter) {
+        // Tasklet Step은 ItemWriteListener를 호출하지 않으므로 기록 직후 직접 전달
+        ItemWriter<Post> trackedWriter = chunk -> {
+            postWriter.write(chunk);
+            deltaSyncWriteListener.afterWrite(chunk);
+        };
+        return new StagedPipelineTasklet<>(
+                concurrentMockApiItemReader, withChangeDetection(contentHashStore, "pipelineJob", postProcessor), trackedWriter,
+                virtualTaskExecutor, heavyTaskExecutor,
+                calculateOptimalChunkSize(), bufferCapacity, fetchThreads);
+    }
+}
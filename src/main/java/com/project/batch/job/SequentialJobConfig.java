@@ -1,7 +1,15 @@
 package com.project.batch.job;
 
+import com.project.batch.base.BaseJobConfig;
+import com.project.batch.listener.ChangeDetectionJobListener;
+import com.project.batch.listener.DeltaSyncJobListener;
+import com.project.batch.listener.DeltaSyncWriteListener;
 import com.project.batch.model.Post;
+import com.project.batch.reader.ConcurrentMockApiItemReader;
 import com.project.batch.reader.MockApiItemReader;
+import com.project.batch.service.ContentHashStore;
+import com.project.batch.writer.ColumnarPostWriter;
+import com.project.batch.writer.JdbcPostWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -11,8 +19,11 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
@@ -27,14 +38,32 @@ import org.springframework.transaction.PlatformTransactionManager;
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
-public class SequentialJobConfig {
+public class SequentialJobConfig extends BaseJobConfig {
 
     private final MockApiItemReader mockApiItemReader;
+    private final ConcurrentMockApiItemReader concurrentMockApiItemReader;
+    private final JdbcPostWriter jdbcPostWriter;
+    private final ColumnarPostWriter columnarPostWriter;
+    private final DeltaSyncJobListener deltaSyncJobListener;
+    private final DeltaSyncWriteListener deltaSyncWriteListener;
+    private final ChangeDetectionJobListener changeDetectionJobListener;
+    private final ContentHashStore contentHashStore;
 
-    private int calculateOptimalChunkSize() {
-        int cores = Runtime.getRuntime().availableProcessors();
-        return Math.max(5, cores * 2);
-    }
+    // single: 단일 스레드 + 재시작 가능한 Reader | multi-threaded: TaskExecutor로 청크를 병렬 처리 (파티셔닝보다 가벼운 대안)
+    @Value("${batch.sequential.mode:single}")
+    private String sequentialMode;
+
+    // inline: 청크 스레드에서 처리 | async: heavyTaskExecutor에서 동시 처리 (청크 내 입력 순서 유지)
+    @Value("${batch.sequential.processing:inline}")
+    private String processingMode;
+
+    // copy: 아이템마다 새 Post 생성 | in-place: 읽은 Post를 그대로 가공 (할당 최소화)
+    @Value("${batch.processor.transform:copy}")
+    private String transformMode;
+
+    // log: 처리 결과를 로그로만 출력 | jdbc: TB_POST에 JDBC 배치로 저장 | columnar: 메모리 매핑 컬럼 파일로 저장
+    @Value("${batch.writer.target:log}")
+    private String writerTarget;
 
     /**
      * "sequentialJob"이라는 이름의 Batch Job을 생성합니다.
@@ -47,6 +76,8 @@ public class SequentialJobConfig {
     public Job sequentialJob(JobRepository jobRepository, Step sequentialStep) {
         return new JobBuilder("sequentialJob", jobRepository)
                 .listener(new com.project.batch.listener.BatchJobExecutionListener())
+                .listener(deltaSyncJobListener)
+                .listener(changeDetectionJobListener)
                 .start(sequentialStep)
                 .build();
     }
@@ -60,18 +91,30 @@ public class SequentialJobConfig {
      *   - 가공된 5개의 Post 묶음을 Writer로 전달하여 한 번에 쓰기 처리를 합니다.
      *   - 이 모든 과정(읽기-처리-쓰기)은 하나의 트랜잭션 안에서 실행됩니다.
      *
+     * batch.sequential.mode=multi-threaded이면 스레드 안전한 ConcurrentMockApiItemReader와
+     * parallelTaskExecutor로 여러 청크를 동시에 처리합니다. (재시작 위치는 저장하지 않음)
+     * batch.sequential.processing=async이면 Processor를 heavyTaskExecutor에서 동시에 실행합니다.
+     *
      * @param jobRepository Step의 메타데이터를 관리하는 Repository
      * @param transactionManager Chunk 처리를 위한 트랜잭션 관리자
+     * @param taskExecutor multi-threaded 모드에서 청크를 실행할 TaskExecutor
+     * @param heavyTaskExecutor async 처리 모드에서 Processor를 실행할 TaskExecutor
      * @return 생성된 Step
      */
     @Bean
-    public Step sequentialStep(JobRepository jobRepository, PlatformTransactionManager transactionManager) {
-        return new StepBuilder("sequentialStep", jobRepository)
-                .<Post, Post>chunk(calculateOptimalChunkSize(), transactionManager)
-                .reader(mockApiItemReader)
-                .processor(postProcessor())
-                .writer(postWriter())
-                .build();
+    public Step sequentialStep(JobRepository jobRepository, PlatformTransactionManager transactionManager,
+                               @Qualifier("parallelTaskExecutor") TaskExecutor taskExecutor,
+                               @Qualifier("heavyTaskExecutor") TaskExecutor heavyTaskExecutor) {
+        boolean multiThreaded = "multi-threaded".equalsIgnoreCase(sequentialMode);
+        log.info("sequentialStep configured: mode={}, processing={}", sequentialMode, processingMode);
+
+        return buildChunkStep(new StepBuilder("sequentialStep", jobRepository),
+                calculateOptimalChunkSize(), transactionManager,
+                multiThreaded ? concurrentMockApiItemReader : mockApiItemReader,
+                withChangeDetection(contentHashStore, "sequentialJob", postProcessor()),
+                postWriter(), deltaSyncWriteListener,
+                processingMode, heavyTaskExecutor,
+                multiThreaded ? taskExecutor : null);
     }
 
     /**
@@ -79,11 +122,24 @@ public class SequentialJobConfig {
      * 이 Processor는 읽어온 Post 데이터를 가공합니다.
      * - 제목을 대문자로 변환
      * - 본문을 50자로 제한
+     * <p>
+     * batch.processor.transform=in-place이면 새 Post를 만들지 않고 읽은 인스턴스를 그대로 가공하며,
+     * 아이템별 로그는 DEBUG 레벨에서만 남깁니다.
      *
      * @return ItemProcessor
      */
     @Bean
     public ItemProcessor<Post, Post> postProcessor() {
+        if (TRANSFORM_IN_PLACE.equalsIgnoreCase(transformMode)) {
+            return post -> {
+                post.processInPlace(null, null);
+                if (log.isDebugEnabled()) {
+                    log.debug("Processing Post ID: {} -> Title: {}", post.getId(), post.getTitle());
+                }
+                return post;
+            };
+        }
+
         return post -> {
 
             Post processedPost = Post.builder()
@@ -101,11 +157,20 @@ public class SequentialJobConfig {
     /**
      * Step에서 사용할 ItemWriter를 생성합니다.
      * 이 Writer는 처리된 Post 데이터 묶음(Chunk)을 로그로 출력합니다.
+     * batch.writer.target=jdbc이면 JdbcPostWriter로 TB_POST에 저장하고,
+     * columnar이면 ColumnarPostWriter로 메모리 매핑 컬럼 파일에 저장합니다.
      *
      * @return ItemWriter
      */
     @Bean
     public ItemWriter<Post> postWriter() {
+        if (WRITER_JDBC.equalsIgnoreCase(writerTarget)) {
+            return jdbcPostWriter;
+        }
+        if (WRITER_COLUMNAR.equalsIgnoreCase(writerTarget)) {
+            return columnarPostWriter;
+        }
+
         return chunk -> {
             log.info("Writing chunk of {} posts:", chunk.size());
             for (Post post : chunk.getItems()) {
@@ -0,0 +1,33 @@
+package com.project.batch.listener;
+
+import com.project.batch.service.ContentHashStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Job이 COMPLETED로 끝났을 때만 이번 실행의 내용 해시를 반영하는 Listener
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeDetectionJobListener implements JobExecutionListener {
+
+    private final ContentHashStore contentHashStore;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (!contentHashStore.isEnabled()) {
+            return;
+        }
+
+        // staged 해시는 실행별로 분리되어 있으므로 겹쳐 실행 중인 같은 Job의 해시에는 영향 없음
+        String jobName = jobExecution.getJobInstance().getJobName();
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            contentHashStore.commit(jobName, jobExecution.getId());
+        } else {
+            contentHashStore.discard(jobName, jobExecution.getId());
+        }
+    }
+}
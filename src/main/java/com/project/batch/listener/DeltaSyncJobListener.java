@@ -0,0 +1,27 @@
+package com.project.batch.listener;
+
+import com.project.batch.service.DeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 증분 동기화 범위를 Job 시작 시 결정하고, 정상 종료 시 high-water mark를 갱신하는 Listener
+ */
+@Component
+@RequiredArgsConstructor
+public class DeltaSyncJobListener implements JobExecutionListener {
+
+    private final DeltaSyncService deltaSyncService;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        deltaSyncService.openWindow(jobExecution);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        deltaSyncService.closeWindow(jobExecution);
+    }
+}
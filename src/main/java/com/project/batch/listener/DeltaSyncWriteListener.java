@@ -0,0 +1,39 @@
+package com.project.batch.listener;
+
+import com.project.batch.model.Post;
+import com.project.batch.service.DeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Future;
+
+/**
+ * Writer가 기록을 마친 청크의 최대 Post ID를 증분 동기화 high-water mark 후보로 넘기는 Listener
+ * <p>
+ * 읽기만 하고 기록되지 않은 아이템이 high-water mark를 앞당기지 않도록 쓰기에 성공한 청크만 반영합니다.
+ * AsyncItemWriter를 쓰는 Step에서는 아이템이 Future이므로 완료된 결과를 꺼내서 봅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeltaSyncWriteListener implements ItemWriteListener<Object> {
+
+    private final DeltaSyncService deltaSyncService;
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        long maxId = 0;
+        for (Object item : items) {
+            if (item instanceof Future<?> future) {
+                item = future.state() == Future.State.SUCCESS ? future.resultNow() : null;
+            }
+            if (item instanceof Post post && post.getId() != null) {
+                maxId = Math.max(maxId, post.getId());
+            }
+        }
+        if (maxId > 0) {
+            deltaSyncService.observe(maxId);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.project.batch.listener;
+
+import com.project.batch.repository.PartitionWorkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동적 파티셔닝 작업 큐 정리 Listener.
+ * <p>
+ * 파티셔너가 Job ExecutionContext에 남긴 큐 키의 블록을 Job이 COMPLETED로 끝났을 때 삭제합니다.
+ * 실패한 실행의 블록은 재시작 시 이어서 처리해야 하므로 남겨 두며, 재시작한 실행이 완료되면 함께 삭제됩니다.
+ * (Job ExecutionContext는 재시작 시 새 실행으로 이어짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionWorkJobListener implements JobExecutionListener {
+
+    public static final String KEY_WORK_QUEUE = "partition.workQueueKey";
+
+    private final PartitionWorkRepository partitionWorkRepository;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED
+                || !jobExecution.getExecutionContext().containsKey(KEY_WORK_QUEUE)) {
+            return;
+        }
+
+        String queueKey = jobExecution.getExecutionContext().getString(KEY_WORK_QUEUE);
+        try {
+            partitionWorkRepository.deleteBlocks(queueKey);
+        } catch (Exception e) {
+            // 정리 실패가 Job 결과를 바꾸지 않도록 로그만 남김
+            log.warn("Failed to clean up work queue {}: {}", queueKey, e.getMessage());
+        }
+    }
+}
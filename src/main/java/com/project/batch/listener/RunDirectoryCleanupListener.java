@@ -0,0 +1,87 @@
+package com.project.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * Job 실행별 런 파일 디렉터리(baseDir/job-{jobExecutionId}) 정리 Listener.
+ * <p>
+ * 런 파일을 쓰는 Job(userAggregationJob, 정렬 모드의 partitionedJob)은 재시작하지 않으므로 실패한 실행의 디렉터리는 다시 쓰이지 않습니다.
+ * Job이 COMPLETED가 아니면 이번 실행의 디렉터리를 삭제하고, Job 시작 시에는 비정상 종료로 남은
+ * 다른 실행의 디렉터리(실행 중이 아닌 job-*)도 정리합니다. 완료된 실행의 디렉터리는 병합 단계가 삭제합니다.
+ */
+@Slf4j
+public class RunDirectoryCleanupListener implements JobExecutionListener {
+
+    private static final String RUN_DIR_PREFIX = "job-";
+
+    private final JobExplorer jobExplorer;
+    private final Path baseDir;
+
+    public RunDirectoryCleanupListener(JobExplorer jobExplorer, String baseDir) {
+        this.jobExplorer = jobExplorer;
+        this.baseDir = Paths.get(baseDir);
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        if (!Files.isDirectory(baseDir)) {
+            return;
+        }
+
+        try (Stream<Path> dirs = Files.list(baseDir)) {
+            dirs.filter(Files::isDirectory)
+                    .filter(dir -> isStale(dir, jobExecution.getId()))
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            log.warn("Failed to scan run directory {}: {}", baseDir, e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            delete(baseDir.resolve(RUN_DIR_PREFIX + jobExecution.getId()));
+        }
+    }
+
+    // 현재 실행이 아니고, 저장소에 없거나 실행 중이 아닌 실행의 디렉터리
+    private boolean isStale(Path dir, Long currentExecutionId) {
+        String name = dir.getFileName().toString();
+        if (!name.startsWith(RUN_DIR_PREFIX)) {
+            return false;
+        }
+        long executionId;
+        try {
+            executionId = Long.parseLong(name.substring(RUN_DIR_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (executionId == currentExecutionId) {
+            return false;
+        }
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        return execution == null || !execution.isRunning();
+    }
+
+    private void delete(Path dir) {
+        try {
+            if (FileSystemUtils.deleteRecursively(dir)) {
+                log.info("Deleted run files of unfinished execution: {}", dir);
+            }
+        } catch (IOException e) {
+            // 정리 실패가 Job 결과를 바꾸지 않도록 로그만 남김
+            log.warn("Failed to delete run directory {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -10,6 +10,9 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Post {
+    private static final int SHORT_BODY_LENGTH = 50;
+    private static final String ELLIPSIS = "...";
+
     private Long id;
     private Long userId;
     private String title;
@@ -20,6 +23,36 @@ public class Post {
     }
 
     public String getShortBody() {
-        return body != null && body.length() > 50 ? body.substring(0, 50) + "..." : body;
+        return shortBody(null);
+    }
+
+    /**
+     * 새 Post를 만들지 않고 현재 인스턴스에 가공 결과(대문자 제목, 50자 본문)를 반영합니다.
+     * 접두어/접미어는 결과 문자열을 만들 때 한 번에 붙여 중간 문자열을 만들지 않습니다.
+     *
+     * @param titlePrefix 제목 앞에 붙일 문자열 (없으면 null)
+     * @param bodySuffix  본문 뒤에 붙일 문자열 (없으면 null)
+     * @return 가공된 현재 인스턴스
+     */
+    public Post processInPlace(String titlePrefix, String bodySuffix) {
+        String processedTitle = getProcessedTitle();
+        this.title = titlePrefix != null ? titlePrefix.concat(processedTitle) : processedTitle;
+        this.body = shortBody(bodySuffix);
+        return this;
+    }
+
+    private String shortBody(String suffix) {
+        if (body == null || body.length() <= SHORT_BODY_LENGTH) {
+            return suffix != null ? body + suffix : body;
+        }
+
+        int suffixLength = suffix != null ? suffix.length() : 0;
+        StringBuilder builder = new StringBuilder(SHORT_BODY_LENGTH + ELLIPSIS.length() + suffixLength)
+                .append(body, 0, SHORT_BODY_LENGTH)
+                .append(ELLIPSIS);
+        if (suffix != null) {
+            builder.append(suffix);
+        }
+        return builder.toString();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,40 @@
+package com.project.batch.processor;
+
+import com.project.batch.base.BaseProcessor;
+import com.project.batch.model.Post;
+import com.project.batch.service.ContentHashStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+/**
+ * 변경 감지 단계 - 마지막으로 완료된 실행과 내용 해시가 같은 Post는 걸러냅니다(null 반환 = Filter).
+ * 가공/쓰기 단계보다 앞에 두어 바뀌었거나 새로운 Post만 이후 단계로 넘깁니다.
+ * 해시는 현재 Step 컨텍스트의 Job 실행 단위로 모으므로 Step 컨텍스트가 등록된 스레드에서 호출해야 합니다.
+ */
+@Slf4j
+public class ChangeDetectionProcessor extends BaseProcessor<Post, Post> {
+
+    private final ContentHashStore contentHashStore;
+    private final String jobName;
+
+    public ChangeDetectionProcessor(ContentHashStore contentHashStore, String jobName) {
+        this.contentHashStore = contentHashStore;
+        this.jobName = jobName;
+    }
+
+    @Override
+    protected Post doProcess(Post item) {
+        if (contentHashStore.checkAndStage(jobName, currentJobExecutionId(), item)) {
+            return item;
+        }
+        log.debug("Post {} unchanged since last run - skipped", item.getId());
+        return null;
+    }
+
+    // Step 밖에서 호출되면 하나의 공용 ID(-1)로 묶음 (반영되지 않음)
+    private static long currentJobExecutionId() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepExecution().getJobExecutionId() : -1L;
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.batch.processor;
+
+import com.project.batch.base.BaseProcessor;
+import com.project.batch.model.Post;
+import com.project.batch.util.ConcurrentLongBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+/**
+ * 한 번의 Job 실행 안에서 이미 처리한 Post ID를 걸러내는 Processor입니다. (null 반환 = Filter)
+ * <p>
+ * 모든 파티션(workerStep)이 하나의 인스턴스를 공유하므로, 파티션 범위가 겹치거나 페이지를 다시 읽거나
+ * Mock 대체 데이터가 실제 ID와 겹쳐도 같은 ID는 한 번만 이후 단계로 넘어갑니다.
+ * ID 집합은 ConcurrentLongBitmap(ID당 1비트, 박싱 없음)이며 Job 시작 시마다 새로 만듭니다.
+ */
+@Slf4j
+public class DeduplicationProcessor extends BaseProcessor<Post, Post> implements JobExecutionListener {
+
+    private final long expectedMaxId;
+    private volatile ConcurrentLongBitmap seenIds;
+
+    public DeduplicationProcessor(long expectedMaxId) {
+        this.expectedMaxId = expectedMaxId;
+        this.seenIds = new ConcurrentLongBitmap(expectedMaxId);
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        seenIds = new ConcurrentLongBitmap(expectedMaxId);
+    }
+
+    @Override
+    protected Post doProcess(Post item) {
+        if (item.getId() == null || seenIds.add(item.getId())) {
+            return item;
+        }
+        log.debug("Duplicate Post {} filtered", item.getId());
+        return null;
+    }
+}
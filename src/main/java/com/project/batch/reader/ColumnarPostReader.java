@@ -0,0 +1,96 @@
+package com.project.batch.reader;
+
+import com.project.batch.model.Post;
+import com.project.batch.util.ColumnarSegment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ColumnarPostWriter가 기록한 실행 디렉터리(모든 파티션/세그먼트)를 순서대로 읽는 Reader입니다.
+ * <p>
+ * 세그먼트는 읽기 전용 메모리 매핑으로 열리므로 파일을 힙으로 복사하지 않고, 행마다 필요한 컬럼만 디코딩합니다.
+ * 행 위치(세그먼트 번호, 행 번호)를 저장하므로 재시작 시 이어서 읽습니다.
+ * 객체 없이 id/userId만 훑는 경우에는 {@link #segments()}로 ColumnarSegment를 직접 사용합니다.
+ */
+@Slf4j
+public class ColumnarPostReader implements ItemStreamReader<Post> {
+
+    private static final String KEY_SEGMENT = "columnarReader.segment";
+    private static final String KEY_ROW = "columnarReader.row";
+
+    private final Path runDirectory;
+
+    private List<Path> segmentDirectories;
+    private ColumnarSegment current;
+    private int segmentIndex = 0;
+    private int row = 0;
+
+    public ColumnarPostReader(Path runDirectory) {
+        this.runDirectory = runDirectory;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        segmentDirectories = segmentsOf(runDirectory);
+        segmentIndex = executionContext.getInt(KEY_SEGMENT, 0);
+        row = executionContext.getInt(KEY_ROW, 0);
+        log.info("Columnar reader opened {} ({} segments, starting at segment {} row {})",
+                runDirectory, segmentDirectories.size(), segmentIndex, row);
+    }
+
+    @Override
+    public Post read() throws Exception {
+        while (segmentIndex < segmentDirectories.size()) {
+            if (current == null) {
+                current = ColumnarSegment.open(segmentDirectories.get(segmentIndex));
+            }
+            if (row < current.rowCount()) {
+                return current.toPost(row++);
+            }
+            current = null;
+            segmentIndex++;
+            row = 0;
+        }
+        return null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(KEY_SEGMENT, segmentIndex);
+        executionContext.putInt(KEY_ROW, row);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        current = null;
+    }
+
+    /**
+     * 실행 디렉터리 아래의 모든 세그먼트 디렉터리 (파티션, 세그먼트 순)
+     */
+    public List<Path> segments() {
+        return segmentDirectories != null ? segmentDirectories : segmentsOf(runDirectory);
+    }
+
+    private static List<Path> segmentsOf(Path runDirectory) {
+        if (!Files.isDirectory(runDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(runDirectory, 2)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("segment-"))
+                    .filter(Files::isDirectory)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to list columnar segments in " + runDirectory, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.batch.reader;
+
+import com.project.batch.model.Post;
+import com.project.batch.service.DeltaSyncService;
+import com.project.batch.service.MockApiService;
+import com.project.batch.vo.SourceMetadataVo;
+import com.project.batch.vo.SyncWindowVo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 멀티스레드 Step(sequentialStep + TaskExecutor)용 스레드 안전 Reader입니다.
+ * <p>
+ * Step마다 새로 생성되므로(StepScope) 실행 간 상태가 남지 않고, 각 스레드는 다음 페이지 번호를 원자적으로 선점해
+ * 서로 다른 페이지를 동시에 요청합니다. 스레드 간 읽기 순서가 보장되지 않으므로 재시작 위치는 저장하지 않습니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class ConcurrentMockApiItemReader implements ItemReader<Post> {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private MockApiService mockApiService;
+
+    @Autowired
+    private DeltaSyncService deltaSyncService;
+
+    // 증분 동기화 범위 - sinceId 이하 ID는 반환하지 않음
+    private volatile SyncWindowVo syncWindow = SyncWindowVo.full();
+
+    private final ConcurrentLinkedQueue<Post> itemQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger nextPage = new AtomicInteger(1);
+    private final AtomicInteger pagesInFlight = new AtomicInteger();
+    private final AtomicBoolean exhausted = new AtomicBoolean(false);
+
+    private volatile int maxPages = -1;
+
+    @Override
+    public Post read() throws Exception {
+        if (maxPages < 0) {
+            resolveMaxPages();
+        }
+
+        while (true) {
+            Post item = itemQueue.poll();
+            if (item != null) {
+                return item;
+            }
+
+            if (!exhausted.get()) {
+                fetchClaimedPage();
+                continue;
+            }
+
+            // 다른 스레드가 아직 페이지를 받는 중이면 그 결과까지 기다린 뒤에 종료(null)
+            if (pagesInFlight.get() == 0) {
+                return itemQueue.poll();
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void fetchClaimedPage() {
+        pagesInFlight.incrementAndGet();
+        try {
+            int page = nextPage.getAndIncrement();
+            if (page > maxPages) {
+                exhausted.set(true);
+                return;
+            }
+
+            SyncWindowVo window = syncWindow;
+            int fetched = mockApiService.streamPostsWithPagination(page, PAGE_SIZE, post -> {
+                if (window.accepts(post.getId())) {
+                    itemQueue.add(post);
+                }
+            });
+            if (fetched == 0) {
+                exhausted.set(true);
+                log.info("Page {} is empty - no more pages to claim", page);
+            } else {
+                log.info("Thread {} fetched {} items from page {}", Thread.currentThread().getName(), fetched, page);
+            }
+        } finally {
+            pagesInFlight.decrementAndGet();
+        }
+    }
+
+    private synchronized void resolveMaxPages() {
+        if (maxPages >= 0) {
+            return;
+        }
+        syncWindow = deltaSyncService.currentWindow();
+        nextPage.set(syncWindow.getFromPage());
+        SourceMetadataVo metadata = mockApiService.probeSourceMetadata(PAGE_SIZE);
+        maxPages = metadata.getTotalPages();
+        log.info("Concurrent reader sized from source metadata: {} pages ({} items, method: {})",
+                maxPages, metadata.getTotalItems(), metadata.getMethod());
+    }
+}
@@ -1,36 +1,134 @@
 package com.project.batch.reader;
 
 import com.project.batch.model.Post;
+import com.project.batch.service.AdaptivePageSizeController;
+import com.project.batch.service.DeltaSyncService;
 import com.project.batch.service.MockApiService;
+import com.project.batch.vo.SourceMetadataVo;
+import com.project.batch.vo.SyncWindowVo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class MockApiItemReader implements ItemReader<Post> {
+public class MockApiItemReader implements ItemStreamReader<Post> {
+
+    // 청크 커밋마다 Step ExecutionContext에 저장되는 재시작 위치
+    private static final String KEY_PAGE = "mockApiReader.page";
+    private static final String KEY_OFFSET = "mockApiReader.offset";
 
     private final MockApiService mockApiService;
+    private final DeltaSyncService deltaSyncService;
+    private final AdaptivePageSizeController pageSizeController;
     private final ConcurrentLinkedQueue<Post> itemQueue = new ConcurrentLinkedQueue<>();
 
+    @Autowired
+    @Qualifier("prefetchTaskExecutor")
+    private TaskExecutor prefetchTaskExecutor;
+
+    // true면 현재 페이지를 소비하는 동안 다음 N개 페이지를 미리 요청
+    @Value("${batch.reader.prefetch.enabled:false}")
+    private boolean prefetchEnabled;
+
+    // 동시에 요청 중인(또는 결과 대기 중인) 최대 요청 수 - 이 이상은 소비될 때까지 요청하지 않음
+    // (페이지 크기 조정 사용 시 요청 하나가 여러 페이지를 담을 수 있음)
+    @Value("${batch.reader.prefetch.pages:4}")
+    private int prefetchPages;
+
+    // 요청 순서(페이지 순서)대로 보관되는 선행 조회 버퍼
+    private final Deque<PageSpan> prefetchWindow = new ArrayDeque<>();
+    private int nextPrefetchPage = 1;
+
+    // 여러 페이지를 한 번에 받은 경우 아직 큐에 올리지 않은 페이지 - 재시작 위치를 페이지 단위로 유지하기 위해 한 페이지씩 적재
+    private final Deque<LoadedPage> loadedPages = new ArrayDeque<>();
+
+    private record PageSpan(int firstPage, int pages, CompletableFuture<List<Post>> future) {}
+
+    private record LoadedPage(int page, List<Post> posts) {}
+
     private int currentPage = 1;
     private final int pageSize = 10;
     private boolean allDataFetched = false;
-    private final int maxPages = 1000; // 10,000개 데이터 처리를 위해 1000페이지로 설정
+    private int maxPages = -1; // 첫 조회 시 데이터 소스 크기로 결정
+
+    // 재시작 위치: 큐에 올라와 있는 페이지와 그 페이지에서 이미 반환한 아이템 수
+    private int drainingPage = 0;
+    private int readInPage = 0;
+    private int resumePage = 0;
+    private int resumeOffset = 0;
+
+    // 증분 동기화 범위 - sinceId 이하 ID는 반환하지 않음
+    private SyncWindowVo syncWindow = SyncWindowVo.full();
+
+    /**
+     * Step 시작 시 호출 - 싱글톤 Bean이므로 이전 실행의 상태를 항상 초기화하고,
+     * 재시작이면 마지막 커밋 시점의 페이지/오프셋부터 이어서 읽습니다.
+     */
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        reset();
+
+        syncWindow = deltaSyncService.currentWindow();
+        currentPage = syncWindow.getFromPage();
+        nextPrefetchPage = syncWindow.getFromPage();
+
+        if (executionContext.containsKey(KEY_PAGE)) {
+            resumePage = executionContext.getInt(KEY_PAGE);
+            resumeOffset = executionContext.getInt(KEY_OFFSET, 0);
+            currentPage = resumePage;
+            nextPrefetchPage = resumePage;
+            log.info("Reader resuming from page {} offset {}", resumePage, resumeOffset);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(KEY_PAGE, drainingPage > 0 ? drainingPage : currentPage);
+        executionContext.putInt(KEY_OFFSET, drainingPage > 0 ? readInPage : 0);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        cancelPrefetchWindow();
+        loadedPages.clear();
+        itemQueue.clear();
+    }
 
     @Override
     public Post read() throws Exception {
-        if (itemQueue.isEmpty() && !allDataFetched) {
-            fetchNextBatch();
+        if (maxPages < 0) {
+            resolveMaxPages();
+        }
+
+        // 재시작 직후 이미 커밋된 아이템만 있던 페이지는 건너뛰고 다음 페이지를 적재
+        while (itemQueue.isEmpty() && !allDataFetched) {
+            if (!loadedPages.isEmpty()) {
+                drainNextLoadedPage();
+            } else if (prefetchEnabled) {
+                fetchNextPrefetchedBatch();
+            } else {
+                fetchNextBatch();
+            }
         }
 
         Post item = itemQueue.poll();
         if (item != null) {
+            readInPage++;
             log.debug("Reading item: {}", item.getId());
         }
 
@@ -40,29 +138,175 @@ public class MockApiItemReader implements ItemReader<Post> {
     private void fetchNextBatch() {
         try {
             log.info("Fetching batch from page: {}", currentPage);
-            List<Post> posts = mockApiService.fetchPostsWithPagination(currentPage, pageSize);
+            if (currentPage > maxPages) {
+                allDataFetched = true;
+                log.info("All data fetched. Total pages processed: {}", currentPage - 1);
+                return;
+            }
+
+            int pages = spanPages(currentPage);
+            if (pages == 1) {
+                // 파싱되는 즉시 큐에 적재 (중간 List 없이 스트리밍)
+                int fetched = mockApiService.streamPostsWithPagination(currentPage, pageSize, this::enqueue);
+
+                if (fetched == 0) {
+                    allDataFetched = true;
+                    log.info("All data fetched. Total pages processed: {}", currentPage - 1);
+                    return;
+                }
+
+                onPageLoaded(currentPage);
+                currentPage++;
+
+                log.info("Added {} items to queue. Queue size: {}", fetched, itemQueue.size());
+                return;
+            }
+
+            List<Post> posts = mockApiService.fetchPostRange((currentPage - 1) * pageSize, pages * pageSize);
+            if (posts.isEmpty()) {
+                allDataFetched = true;
+                log.info("All data fetched. Total pages processed: {}", currentPage - 1);
+                return;
+            }
+
+            splitIntoPages(currentPage, posts);
+            currentPage += pages;
+            log.info("Loaded {} items from {} pages in one request", posts.size(), pages);
+
+        } catch (Exception e) {
+            // 데이터 끝으로 처리하지 않고 Step을 실패시켜 재시작 시 마지막 커밋 위치부터 이어서 읽음
+            log.error("Failed to fetch batch from page {}: {}", currentPage, e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * 선행 조회 모드의 페이지 적재.
+     * 버퍼의 가장 앞(= currentPage) 결과만 기다리고, 빈 자리만큼 다음 페이지 요청을 채워 넣습니다.
+     * 버퍼 크기가 prefetchPages로 제한되므로 소비가 느리면 요청도 그만큼만 앞서 나갑니다.
+     */
+    private void fetchNextPrefetchedBatch() {
+        fillPrefetchWindow();
+
+        PageSpan head = prefetchWindow.poll();
+        if (head == null) {
+            allDataFetched = true;
+            log.info("All data fetched. Total pages processed: {}", currentPage - 1);
+            return;
+        }
 
-            if (posts.isEmpty() || currentPage >= maxPages) {
+        try {
+            List<Post> posts = head.future().join();
+
+            if (posts.isEmpty()) {
                 allDataFetched = true;
+                cancelPrefetchWindow();
                 log.info("All data fetched. Total pages processed: {}", currentPage - 1);
                 return;
             }
 
-            itemQueue.addAll(posts);
-            currentPage++;
+            splitIntoPages(head.firstPage(), posts);
+            currentPage = head.firstPage() + head.pages();
+            fillPrefetchWindow();
 
-            log.info("Added {} items to queue. Queue size: {}", posts.size(), itemQueue.size());
+            log.info("Loaded {} items from {} pages. Requests in flight: {}",
+                    posts.size(), head.pages(), prefetchWindow.size());
 
         } catch (Exception e) {
             log.error("Failed to fetch batch from page {}: {}", currentPage, e.getMessage(), e);
+            cancelPrefetchWindow();
+            throw e;
+        }
+    }
+
+    private void enqueue(Post post) {
+        if (syncWindow.accepts(post.getId())) {
+            itemQueue.add(post);
+        }
+    }
+
+    /**
+     * 여러 페이지 분량의 응답을 원래 페이지 단위로 나눠 둡니다. (재시작 위치/증분 동기화 기준이 페이지 단위)
+     */
+    private void splitIntoPages(int firstPage, List<Post> posts) {
+        for (int from = 0, page = firstPage; from < posts.size(); from += pageSize, page++) {
+            loadedPages.add(new LoadedPage(page, posts.subList(from, Math.min(from + pageSize, posts.size()))));
+        }
+    }
+
+    private void drainNextLoadedPage() {
+        LoadedPage next = loadedPages.poll();
+        next.posts().forEach(this::enqueue);
+        onPageLoaded(next.page());
+        log.debug("Added page {} to queue. Queue size: {}", next.page(), itemQueue.size());
+    }
+
+    // 다음 요청에 담을 페이지 수 - 페이지 크기 컨트롤러가 정한 크기를 남은 페이지 수 안으로 제한
+    private int spanPages(int firstPage) {
+        int pages = pageSizeController.nextLimit(pageSize) / pageSize;
+        return Math.max(1, Math.min(pages, maxPages - firstPage + 1));
+    }
+
+    private void onPageLoaded(int page) {
+        drainingPage = page;
+        readInPage = 0;
+
+        // 재시작 직후 첫 페이지: 이미 커밋된 아이템은 건너뜀
+        if (page == resumePage && resumeOffset > 0) {
+            for (int i = 0; i < resumeOffset && itemQueue.poll() != null; i++) {
+                readInPage++;
+            }
+            log.info("Skipped {} already committed items of page {}", readInPage, page);
+            resumeOffset = 0;
+        }
+    }
+
+    private void resolveMaxPages() {
+        SourceMetadataVo metadata = mockApiService.probeSourceMetadata(pageSize);
+        maxPages = metadata.getTotalPages();
+        if (metadata.isEmpty()) {
             allDataFetched = true;
         }
+        log.info("Reader sized from source metadata: {} pages ({} items, method: {})",
+                maxPages, metadata.getTotalItems(), metadata.getMethod());
+    }
+
+    private void fillPrefetchWindow() {
+        while (prefetchWindow.size() < prefetchPages && nextPrefetchPage <= maxPages) {
+            int page = nextPrefetchPage;
+            int pages = spanPages(page);
+            nextPrefetchPage += pages;
+            prefetchWindow.add(new PageSpan(page, pages,
+                    CompletableFuture.supplyAsync(() -> fetchPages(page, pages), prefetchTaskExecutor)));
+        }
+    }
+
+    // 실패는 빈 페이지(데이터 끝)로 바꾸지 않고 그대로 전파 - 결과를 꺼내는 쪽에서 Step을 실패시킴
+    private List<Post> fetchPages(int page, int pages) {
+        log.debug("Prefetching pages {}-{}", page, page + pages - 1);
+        return pages == 1
+                ? mockApiService.fetchPostsWithPagination(page, pageSize)
+                : mockApiService.fetchPostRange((page - 1) * pageSize, pages * pageSize);
+    }
+
+    private void cancelPrefetchWindow() {
+        prefetchWindow.forEach(span -> span.future().cancel(true));
+        prefetchWindow.clear();
     }
 
     public void reset() {
         itemQueue.clear();
+        cancelPrefetchWindow();
+        loadedPages.clear();
         currentPage = 1;
+        nextPrefetchPage = 1;
+        maxPages = -1;
         allDataFetched = false;
+        drainingPage = 0;
+        readInPage = 0;
+        resumePage = 0;
+        resumeOffset = 0;
+        syncWindow = SyncWindowVo.full();
         log.info("Reader reset completed");
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,46 @@
 package com.project.batch.reader;
 
 import com.project.batch.model.Post;
+import com.project.batch.repository.PartitionWorkRepository;
+import com.project.batch.service.AdaptivePageSizeController;
+import com.project.batch.service.DeltaSyncService;
 import com.project.batch.service.MockApiService;
+import com.project.batch.vo.PartitionWorkVo;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Scope;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.LinkedList;
-import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @StepScope
-public class PartitionedMockApiItemReader implements ItemReader<Post> {
+public class PartitionedMockApiItemReader implements ItemStreamReader<Post> {
+
+    // 청크 커밋마다 Step ExecutionContext에 저장되는 재시작 위치
+    private static final String KEY_PAGE = "partitionReader.page";
+    private static final String KEY_OFFSET = "partitionReader.offset";
+    private static final String KEY_BLOCK_ID = "partitionReader.blockId";
+    private static final String KEY_BLOCK_START = "partitionReader.blockStart";
+    private static final String KEY_BLOCK_END = "partitionReader.blockEnd";
+
+    // 파티션 범위/재시작 위치의 단위가 되는 페이지 크기
+    private static final int PAGE_SIZE = 10;
 
     @Value("#{stepExecutionContext[startPage]}")
     private Integer startPage;
@@ -31,6 +51,18 @@ public class PartitionedMockApiItemReader implements ItemReader<Post> {
     @Value("#{stepExecutionContext[partitionId]}")
     private Integer partitionId;
 
+    // dynamic 파티셔닝일 때만 존재 - 블록을 선점할 작업 큐 키
+    @Value("#{stepExecutionContext[workQueueKey]}")
+    private String workQueueKey;
+
+    // dynamic 파티셔닝일 때만 존재 - 탐색으로 확인한 소스 페이지 수 (0이면 알 수 없어 기본 상한으로 분할한 경우)
+    @Value("#{stepExecutionContext[sourcePages]}")
+    private Integer sourcePages;
+
+    // false면 본문에 파티션 정보를 덧붙이지 않음 (집계처럼 원본 본문이 필요한 Job)
+    @Value("#{stepExecutionContext[appendPartitionInfo]}")
+    private Boolean appendPartitionInfo;
+
     // Getter methods for IDE property recognition
     public Integer getStartPage() { return startPage; }
     public Integer getEndPage() { return endPage; }
@@ -39,10 +71,113 @@ public class PartitionedMockApiItemReader implements ItemReader<Post> {
     @Autowired
     private MockApiService mockApiService;
 
+    @Autowired
+    private PartitionWorkRepository partitionWorkRepository;
+
+    @Autowired
+    private DeltaSyncService deltaSyncService;
+
+    @Autowired
+    private AdaptivePageSizeController pageSizeController;
+
+    // 증분 동기화 기준 ID - 이하 ID는 반환하지 않음
+    private long sinceId = 0;
+
+    @Autowired
+    @Qualifier("virtualTaskExecutor")
+    private TaskExecutor virtualTaskExecutor;
+
+    // blocking: 페이지를 하나씩 요청 | virtual: 가상 스레드로 여러 페이지를 동시에 요청
+    @Value("${batch.reader.partition.loading:blocking}")
+    private String loadingMode;
+
+    // virtual 모드에서 동시에 요청 중인 최대 페이지 수
+    @Value("${batch.reader.partition.pages-in-flight:4}")
+    private int pagesInFlight;
+
     private Queue<Post> itemQueue = new LinkedList<>();
     private int currentPage = 0;
     private boolean initialized = false;
 
+    // virtual 모드: 요청한 순서(= 페이지 순서)대로 결과를 꺼내기 위한 창
+    private final Deque<PageLoad> pageWindow = new ArrayDeque<>();
+    private int nextRequestPage = 0;
+
+    // 요청 하나가 담는 페이지 범위 (페이지 크기 조정 시 page부터 pages개)
+    private record PageLoad(int page, int pages, CompletableFuture<List<Post>> future) {}
+
+    // 여러 페이지를 한 번에 받은 경우 아직 큐에 올리지 않은 페이지 - 재시작 위치를 페이지 단위로 유지하기 위해 한 페이지씩 적재
+    private final Deque<LoadedPage> loadedPages = new ArrayDeque<>();
+
+    private record LoadedPage(int page, List<Post> posts) {}
+
+    // dynamic 모드: 현재 처리 중인 블록과 큐 소진 여부
+    private PartitionWorkVo currentBlock;
+    private boolean workQueueDrained = false;
+
+    // 재시작 위치: 큐에 올라와 있는 페이지와 그 페이지에서 이미 반환한 아이템 수
+    private int drainingPage = 0;
+    private int readInPage = 0;
+    private int resumePage = 0;
+    private int resumeOffset = 0;
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        initialize();
+
+        if (workQueueKey != null) {
+            long keepBlockId = -1;
+            if (executionContext.containsKey(KEY_BLOCK_ID)) {
+                // 재시작: 마지막 커밋 시점에 처리 중이던 블록을 이어서 처리
+                currentBlock = PartitionWorkVo.builder()
+                        .id(executionContext.getLong(KEY_BLOCK_ID))
+                        .startPage(executionContext.getInt(KEY_BLOCK_START))
+                        .endPage(executionContext.getInt(KEY_BLOCK_END))
+                        .status(PartitionWorkVo.STATUS_CLAIMED)
+                        .claimedBy(partitionId)
+                        .build();
+                keepBlockId = currentBlock.getId();
+                startPage = currentBlock.getStartPage();
+                endPage = currentBlock.getEndPage();
+                restorePosition(executionContext);
+            }
+            // 커밋되지 않은 선점(이어서 처리할 블록 제외)은 큐에 되돌림
+            partitionWorkRepository.releaseClaimedBlocks(workQueueKey, partitionId, keepBlockId);
+        } else if (executionContext.containsKey(KEY_PAGE)) {
+            restorePosition(executionContext);
+        }
+    }
+
+    private void restorePosition(ExecutionContext executionContext) {
+        resumePage = executionContext.getInt(KEY_PAGE);
+        resumeOffset = executionContext.getInt(KEY_OFFSET, 0);
+        currentPage = resumePage;
+        nextRequestPage = resumePage;
+        log.info("Partition {} resuming from page {} offset {}", partitionId, resumePage, resumeOffset);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(KEY_PAGE, drainingPage > 0 ? drainingPage : currentPage);
+        executionContext.putInt(KEY_OFFSET, drainingPage > 0 ? readInPage : 0);
+
+        if (currentBlock != null) {
+            executionContext.putLong(KEY_BLOCK_ID, currentBlock.getId());
+            executionContext.putInt(KEY_BLOCK_START, currentBlock.getStartPage());
+            executionContext.putInt(KEY_BLOCK_END, currentBlock.getEndPage());
+        } else {
+            executionContext.remove(KEY_BLOCK_ID);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        pageWindow.forEach(load -> load.future().cancel(true));
+        pageWindow.clear();
+        loadedPages.clear();
+        itemQueue.clear();
+    }
+
     @Override
     public Post read() throws Exception {
         if (!initialized) {
@@ -50,10 +185,41 @@ public class PartitionedMockApiItemReader implements ItemReader<Post> {
         }
 
         if (itemQueue.isEmpty()) {
-            loadNextPage();
+            if (workQueueKey != null) {
+                loadNextDynamicPage();
+            } else {
+                // 재시작 직후 이미 커밋된 아이템만 있던 페이지는 건너뛰고 다음 페이지를 적재
+                while (itemQueue.isEmpty() && loadPage()) {
+                    log.debug("Partition {} page fully skipped, loading next page", partitionId);
+                }
+            }
+        }
+
+        Post item = itemQueue.poll();
+        if (item != null) {
+            readInPage++;
+        }
+        return item;
+    }
+
+    /**
+     * 받아 둔 페이지가 있으면 그 중 다음 페이지를, 없으면 새로 요청해 받은 첫 페이지를 큐에 적재합니다.
+     *
+     * @return 비어있지 않은 페이지를 적재했으면 true, 더 이상 페이지가 없거나 빈 페이지면 false
+     */
+    private boolean loadPage() throws Exception {
+        if (loadedPages.isEmpty()) {
+            boolean loaded = "virtual".equalsIgnoreCase(loadingMode)
+                    ? loadNextPageConcurrently()
+                    : loadNextPage();
+            if (!loaded) {
+                return false;
+            }
         }
 
-        return itemQueue.poll();
+        LoadedPage next = loadedPages.poll();
+        enqueuePage(next.posts(), next.page());
+        return true;
     }
 
     private void initialize() {
@@ -61,54 +227,208 @@ public class PartitionedMockApiItemReader implements ItemReader<Post> {
             throw new IllegalStateException("Partition parameters not properly injected: startPage=" + startPage + ", endPage=" + endPage + ", partitionId=" + partitionId);
         }
         this.currentPage = startPage;
+        this.nextRequestPage = startPage;
+        this.sinceId = deltaSyncService.currentWindow().getSinceId();
         this.initialized = true;
-        log.info("Partition {} initialized: pages {}-{}", partitionId, startPage, endPage);
+
+        if (workQueueKey != null) {
+            log.info("Partition {} initialized: work queue {} (loading: {})", partitionId, workQueueKey, loadingMode);
+            return;
+        }
+        log.info("Partition {} initialized: pages {}-{} (loading: {})", partitionId, startPage, endPage, loadingMode);
     }
 
-    private void loadNextPage() throws Exception {
+    /**
+     * dynamic 모드의 페이지 적재.
+     * 현재 블록을 다 읽으면 완료 처리 후 작업 큐에서 다음 블록을 선점하고, 큐가 빌 때까지 반복합니다.
+     * 확인된 소스 크기를 넘어선(또는 크기를 알 수 없는) 빈 페이지는 데이터 소스의 끝으로 보고 남은 블록을 건너뜁니다.
+     * 확인된 크기 안의 빈 페이지는 현재 블록만 마칩니다. 조회 실패는 예외로 전파되어 Step이 실패하고,
+     * 블록은 CLAIMED로 남아 재시작 시 마지막 커밋 위치부터 다시 처리됩니다.
+     */
+    private void loadNextDynamicPage() throws Exception {
+        while (itemQueue.isEmpty() && !workQueueDrained) {
+            if (currentBlock == null || (currentPage > endPage && loadedPages.isEmpty())) {
+                if (!claimNextBlock()) {
+                    return;
+                }
+            }
+
+            int page = currentPage;
+            if (!loadPage()) {
+                if (sourcePages == null || sourcePages <= 0 || page > sourcePages) {
+                    partitionWorkRepository.skipBlocksAfter(workQueueKey, page);
+                } else {
+                    log.warn("Partition {} got an empty page {} within the source size of {} pages - finishing block {} only",
+                            partitionId, page, sourcePages, currentBlock.getId());
+                }
+                pageWindow.forEach(load -> load.future().cancel(true));
+                pageWindow.clear();
+                currentPage = endPage + 1;
+            }
+        }
+    }
+
+    private boolean claimNextBlock() {
+        if (currentBlock != null) {
+            // 다음 블록의 첫 아이템을 읽는 청크(큐가 비었으면 마지막 청크) 트랜잭션과 함께 커밋됨
+            // - 롤백되면 CLAIMED로 남고, 재시작 시 커밋된 위치(이 블록의 끝)부터 이어서 처리
+            partitionWorkRepository.completeBlock(currentBlock.getId());
+            log.info("Partition {} completed block {}: pages {}-{}",
+                    partitionId, currentBlock.getId(), currentBlock.getStartPage(), currentBlock.getEndPage());
+            currentBlock = null;
+        }
+
+        Optional<PartitionWorkVo> next = partitionWorkRepository.claimNextBlock(workQueueKey, partitionId);
+        if (next.isEmpty()) {
+            workQueueDrained = true;
+            log.info("Partition {} found no more blocks in work queue {}", partitionId, workQueueKey);
+            return false;
+        }
+
+        currentBlock = next.get();
+        startPage = currentBlock.getStartPage();
+        endPage = currentBlock.getEndPage();
+        currentPage = startPage;
+        nextRequestPage = startPage;
+        log.info("Partition {} claimed block {}: pages {}-{}", partitionId, currentBlock.getId(), startPage, endPage);
+        return true;
+    }
+
+    private boolean loadNextPage() throws Exception {
         if (currentPage > endPage) {
-            return; // 더 이상 로드할 페이지 없음
+            return false; // 더 이상 로드할 페이지 없음
         }
 
-        log.info("Partition {} loading page: {}", partitionId, currentPage);
+        int page = currentPage;
+        int pages = spanPages(page);
+        log.info("Partition {} loading pages: {}-{}", partitionId, page, page + pages - 1);
 
         try {
             // CompletableFuture를 사용한 비동기 로딩
-            CompletableFuture<List<Post>> future =
-                CompletableFuture.supplyAsync(() -> {
-                    try {
-                        return mockApiService.fetchPostsWithPagination(currentPage, 10);
-                    } catch (Exception e) {
-                        log.error("Failed to load page {} in partition {}: {}",
-                                currentPage, partitionId, e.getMessage());
-                        return Collections.emptyList();
-                    }
-                });
+            CompletableFuture<List<Post>> future = CompletableFuture.supplyAsync(() -> fetchPages(page, pages));
 
             List<Post> posts = future.get(10, TimeUnit.SECONDS);
 
             if (posts != null && !posts.isEmpty()) {
-                // 파티션 정보 추가
-                posts.forEach(post -> {
-                    if (post != null && post.getBody() != null) {
-                        post.setBody(post.getBody() +
-                                String.format(" [Partition: %d, Page: %d, Thread: %s]",
-                                        partitionId, currentPage, Thread.currentThread().getName()));
-                    }
-                });
-
-                itemQueue.addAll(posts);
-                log.info("Partition {} loaded {} items from page {}",
-                        partitionId, posts.size(), currentPage);
-            } else {
-                log.info("Partition {} loaded 0 items from page {} (no more data)",
-                        partitionId, currentPage);
+                splitIntoPages(page, posts);
+                log.info("Partition {} loaded {} items from pages {}-{}",
+                        partitionId, posts.size(), page, page + pages - 1);
+                return true;
+            }
+            log.info("Partition {} loaded 0 items from page {} (no more data)", partitionId, page);
+            return false;
+        } catch (Exception e) {
+            log.error("Error loading page {} in partition {}: {}", page, partitionId, e.getMessage(), e);
+            throw e;
+        } finally {
+            currentPage = page + pages;
+        }
+    }
+
+    /**
+     * virtual 모드의 페이지 적재.
+     * 최대 pagesInFlight개의 페이지를 가상 스레드에서 동시에 요청해 두고, 가장 앞 페이지의 결과만 기다립니다.
+     * 결과는 요청 순서대로 꺼내므로 아이템은 항상 페이지 순서로 반환됩니다.
+     */
+    private boolean loadNextPageConcurrently() throws Exception {
+        fillPageWindow();
+
+        PageLoad head = pageWindow.poll();
+        if (head == null) {
+            return false; // 더 이상 로드할 페이지 없음
+        }
+
+        try {
+            List<Post> posts = head.future().get(10, TimeUnit.SECONDS);
+            fillPageWindow();
+
+            if (!posts.isEmpty()) {
+                splitIntoPages(head.page(), posts);
+                log.info("Partition {} loaded {} items from pages {}-{} ({} requests in flight)",
+                        partitionId, posts.size(), head.page(), head.page() + head.pages() - 1, pageWindow.size());
+                return true;
             }
+            log.info("Partition {} loaded 0 items from page {} (no more data)",
+                    partitionId, head.page());
+            return false;
         } catch (Exception e) {
-            log.error("Error loading page {} in partition {}: {}", currentPage, partitionId, e.getMessage(), e);
+            log.error("Error loading page {} in partition {}: {}", head.page(), partitionId, e.getMessage(), e);
+            pageWindow.forEach(load -> load.future().cancel(true));
+            pageWindow.clear();
             throw e;
         } finally {
-            currentPage++;
+            currentPage = head.page() + head.pages();
+        }
+    }
+
+    private void fillPageWindow() {
+        while (pageWindow.size() < pagesInFlight && nextRequestPage <= endPage) {
+            int page = nextRequestPage;
+            int pages = spanPages(page);
+            nextRequestPage += pages;
+            pageWindow.add(new PageLoad(page, pages,
+                    CompletableFuture.supplyAsync(() -> fetchPages(page, pages), virtualTaskExecutor)));
+        }
+    }
+
+    // 다음 요청에 담을 페이지 수 - 페이지 크기 컨트롤러가 정한 크기를 파티션(블록) 범위 안으로 제한
+    private int spanPages(int firstPage) {
+        int pages = pageSizeController.nextLimit(PAGE_SIZE) / PAGE_SIZE;
+        return Math.max(1, Math.min(pages, endPage - firstPage + 1));
+    }
+
+    // 한 페이지면 기존 페이지 요청, 여러 페이지면 오프셋 구간 요청 한 번으로 조회
+    // - 실패는 빈 페이지(데이터 끝)로 바꾸지 않고 그대로 전파
+    private List<Post> fetchPages(int page, int pages) {
+        return pages == 1
+                ? mockApiService.fetchPostsWithPagination(page, PAGE_SIZE)
+                : mockApiService.fetchPostRange((page - 1) * PAGE_SIZE, pages * PAGE_SIZE);
+    }
+
+    /**
+     * 여러 페이지 분량의 응답을 원래 페이지 단위로 나눠 둡니다. (재시작 위치/블록/증분 동기화 기준이 페이지 단위)
+     */
+    private void splitIntoPages(int firstPage, List<Post> posts) {
+        for (int from = 0, page = firstPage; from < posts.size(); from += PAGE_SIZE, page++) {
+            loadedPages.add(new LoadedPage(page, posts.subList(from, Math.min(from + PAGE_SIZE, posts.size()))));
+        }
+    }
+
+    private void enqueuePage(List<Post> posts, int page) {
+        if (!Boolean.FALSE.equals(appendPartitionInfo)) {
+            appendPartitionInfo(posts, page);
+        }
+        for (Post post : posts) {
+            if (post.getId() == null || post.getId() > sinceId) {
+                itemQueue.add(post);
+            }
+        }
+        drainingPage = page;
+        readInPage = 0;
+
+        // 재시작 직후 첫 페이지: 이미 커밋된 아이템은 건너뜀
+        if (page == resumePage && resumeOffset > 0) {
+            for (int i = 0; i < resumeOffset && itemQueue.poll() != null; i++) {
+                readInPage++;
+            }
+            log.info("Partition {} skipped {} already committed items of page {}", partitionId, readInPage, page);
+            resumeOffset = 0;
+        }
+    }
+
+    // 파티션 정보 추가 - 접미어는 페이지 내 모든 아이템이 같으므로 페이지당 한 번만 생성
+    private void appendPartitionInfo(List<Post> posts, int page) {
+        String suffix = new StringBuilder(64)
+                .append(" [Partition: ").append(partitionId)
+                .append(", Page: ").append(page)
+                .append(", Thread: ").append(Thread.currentThread().getName())
+                .append(']')
+                .toString();
+
+        for (Post post : posts) {
+            if (post != null && post.getBody() != null) {
+                post.setBody(post.getBody().concat(suffix));
+            }
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.project.batch.reader;
+
+import com.project.batch.model.Post;
+import com.project.batch.util.PostRecordCodec;
+import com.project.batch.writer.SortedRunWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * 외부 정렬의 2단계 - SortedRunWriter가 만든 런 파일들을 k-way 병합해 정렬된 순서로 반환하는 Reader입니다.
+ * <p>
+ * 런 파일마다 현재 레코드 하나만 메모리에 두고 우선순위 큐로 가장 작은 레코드를 꺼내므로,
+ * 메모리 사용량은 전체 데이터 크기가 아닌 런 파일 수에 비례합니다.
+ * 런 디렉터리는 Step이 COMPLETED로 끝났을 때만(마지막 쓰기까지 성공한 뒤) 삭제합니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class SortedRunMergeReader implements ItemStreamReader<Post>, StepExecutionListener {
+
+    @Value("${batch.partition.sort.key:id}")
+    private String sortKey;
+
+    @Value("${batch.partition.sort.dir:./data/sort}")
+    private String sortDir;
+
+    @Value("#{stepExecution.jobExecutionId}")
+    private Long jobExecutionId;
+
+    private final List<RunCursor> cursors = new ArrayList<>();
+    private PriorityQueue<RunCursor> heap;
+    private Path runDirectory;
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        runDirectory = SortedRunWriter.runDirectoryOf(sortDir, jobExecutionId);
+        Comparator<Post> comparator = SortedRunWriter.comparatorFor(sortKey);
+        heap = new PriorityQueue<>((a, b) -> comparator.compare(a.current, b.current));
+
+        if (!Files.isDirectory(runDirectory)) {
+            log.info("No sorted runs found in {}", runDirectory);
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(runDirectory)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".bin"))::iterator) {
+                RunCursor cursor = new RunCursor(new DataInputStream(new BufferedInputStream(Files.newInputStream(file))));
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open sorted runs in " + runDirectory, e);
+        }
+        log.info("Merging {} sorted runs from {} (sort key: {})", cursors.size(), runDirectory, sortKey);
+    }
+
+    @Override
+    public Post read() throws Exception {
+        RunCursor head = heap.poll();
+        if (head == null) {
+            return null;
+        }
+
+        Post post = head.current;
+        if (head.advance()) {
+            heap.add(head);
+        }
+        return post;
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        for (RunCursor cursor : cursors) {
+            try {
+                cursor.in.close();
+            } catch (IOException ignored) {
+                // 읽기 전용 스트림 - 닫기 실패는 무시
+            }
+        }
+        cursors.clear();
+    }
+
+    /**
+     * Writer의 afterStep(예: Write-behind 대기)까지 끝난 뒤 호출되므로, 여기서 COMPLETED면 모든 아이템이 기록된 상태입니다.
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStatus() == BatchStatus.COMPLETED && runDirectory != null) {
+            FileSystemUtils.deleteRecursively(runDirectory.toFile());
+            log.info("Deleted merged sorted runs in {}", runDirectory);
+        }
+        return null;
+    }
+
+    private static final class RunCursor {
+        private final DataInputStream in;
+        private Post current;
+
+        private RunCursor(DataInputStream in) {
+            this.in = in;
+        }
+
+        boolean advance() throws IOException {
+            try {
+                current = PostRecordCodec.read(in);
+                return true;
+            } catch (EOFException e) {
+                current = null;
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.batch.repository;
+
+import com.project.batch.vo.PartitionWorkVo;
+
+import java.util.Optional;
+
+public interface PartitionWorkRepository {
+
+    int createBlocks(String queueKey, int fromPage, int totalPages, int blockPages);
+
+    Optional<PartitionWorkVo> claimNextBlock(String queueKey, int partitionId);
+
+    void completeBlock(Long blockId);
+
+    int releaseClaimedBlocks(String queueKey, int partitionId, long keepBlockId);
+
+    int skipBlocksAfter(String queueKey, int page);
+
+    int deleteBlocks(String queueKey);
+}
@@ -0,0 +1,14 @@
+package com.project.batch.repository;
+
+import com.project.batch.vo.SyncStateVo;
+
+import java.util.Optional;
+
+public interface SyncStateRepository {
+
+    Optional<SyncStateVo> getSyncState(String jobName);
+
+    void saveSyncState(SyncStateVo syncStateVo);
+
+    void resetSyncState(String jobName);
+}
@@ -0,0 +1,136 @@
+package com.project.batch.repository.impl;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.dao.PartitionWorkDao;
+import com.project.batch.exception.BatchException;
+import com.project.batch.repository.PartitionWorkRepository;
+import com.project.batch.vo.PartitionWorkVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 동적 파티셔닝용 작업 큐(tb_partition_work) 저장소.
+ * <p>
+ * 블록 선점/건너뛰기는 여러 Worker가 동시에 같은 행을 다루므로 청크 트랜잭션과 분리(REQUIRES_NEW)해 즉시 커밋하고,
+ * 완료 처리는 Worker가 다음 블록을 선점하는 청크(다음 블록의 첫 아이템을 읽는 청크, 또는 큐가 빈 마지막 청크)의
+ * 트랜잭션에 참여시켜 청크가 롤백되면 블록도 CLAIMED로 남도록 합니다. 재시작 시에는 커밋된 위치의 블록부터 이어서 처리합니다.
+ * 큐의 블록은 Job이 COMPLETED로 끝나면 삭제합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PartitionWorkRepositoryImpl implements PartitionWorkRepository {
+
+    private static final int MAX_CLAIM_ATTEMPTS = 10;
+
+    private final PartitionWorkDao partitionWorkDao;
+
+    @Override
+    public int createBlocks(String queueKey, int fromPage, int totalPages, int blockPages) {
+        try {
+            int blocks = 0;
+            for (int startPage = fromPage; startPage <= totalPages; startPage += blockPages) {
+                partitionWorkDao.insertBlock(PartitionWorkVo.builder()
+                        .queueKey(queueKey)
+                        .startPage(startPage)
+                        .endPage(Math.min(startPage + blockPages - 1, totalPages))
+                        .build());
+                blocks++;
+            }
+            log.info("Created {} work blocks for queue {} (pages {}-{}, {} pages per block)",
+                    blocks, queueKey, fromPage, totalPages, blockPages);
+            return blocks;
+        } catch (Exception e) {
+            log.error("Failed to create work blocks for queue: {}", queueKey, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to create partition work blocks", e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<PartitionWorkVo> claimNextBlock(String queueKey, int partitionId) {
+        try {
+            for (int attempt = 0; attempt < MAX_CLAIM_ATTEMPTS; attempt++) {
+                PartitionWorkVo block = partitionWorkDao.getNextReadyBlock(queueKey);
+                if (block == null) {
+                    return Optional.empty();
+                }
+                // 다른 Worker가 먼저 가져갔으면 0건 - 다음 블록으로 재시도
+                if (partitionWorkDao.claimBlock(block.getId(), partitionId) == 1) {
+                    block.setStatus(PartitionWorkVo.STATUS_CLAIMED);
+                    block.setClaimedBy(partitionId);
+                    return Optional.of(block);
+                }
+            }
+            log.warn("Partition {} could not claim a block from queue {} after {} attempts",
+                    partitionId, queueKey, MAX_CLAIM_ATTEMPTS);
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("Failed to claim work block - queue: {}, partition: {}", queueKey, partitionId, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to claim partition work block", e);
+        }
+    }
+
+    @Override
+    public void completeBlock(Long blockId) {
+        try {
+            partitionWorkDao.completeBlock(blockId);
+        } catch (Exception e) {
+            log.error("Failed to complete work block: {}", blockId, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to complete partition work block", e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int releaseClaimedBlocks(String queueKey, int partitionId, long keepBlockId) {
+        try {
+            int released = partitionWorkDao.releaseClaimedBlocks(queueKey, partitionId, keepBlockId);
+            if (released > 0) {
+                log.info("Released {} unfinished blocks of partition {} in queue {}", released, partitionId, queueKey);
+            }
+            return released;
+        } catch (Exception e) {
+            log.error("Failed to release claimed blocks - queue: {}, partition: {}", queueKey, partitionId, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to release claimed partition work blocks", e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int skipBlocksAfter(String queueKey, int page) {
+        try {
+            int skipped = partitionWorkDao.skipBlocksAfter(queueKey, page);
+            if (skipped > 0) {
+                log.info("Source exhausted at page {} - skipped {} remaining blocks in queue {}", page, skipped, queueKey);
+            }
+            return skipped;
+        } catch (Exception e) {
+            log.error("Failed to skip blocks after page {} in queue {}", page, queueKey, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to skip partition work blocks", e);
+        }
+    }
+
+    @Override
+    public int deleteBlocks(String queueKey) {
+        try {
+            int deleted = partitionWorkDao.deleteBlocks(queueKey);
+            log.info("Deleted {} work blocks of queue {}", deleted, queueKey);
+            return deleted;
+        } catch (Exception e) {
+            log.error("Failed to delete work blocks of queue {}", queueKey, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to delete partition work blocks", e);
+        }
+    }
+}
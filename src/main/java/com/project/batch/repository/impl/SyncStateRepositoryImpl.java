@@ -0,0 +1,62 @@
+package com.project.batch.repository.impl;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.dao.SyncStateDao;
+import com.project.batch.exception.BatchException;
+import com.project.batch.repository.SyncStateRepository;
+import com.project.batch.vo.SyncStateVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Job별 증분 동기화 상태(tb_sync_state) 저장소.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class SyncStateRepositoryImpl implements SyncStateRepository {
+
+    private final SyncStateDao syncStateDao;
+
+    @Override
+    public Optional<SyncStateVo> getSyncState(String jobName) {
+        try {
+            return Optional.ofNullable(syncStateDao.getSyncState(jobName));
+        } catch (Exception e) {
+            log.error("Failed to get sync state for job: {}", jobName, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to get sync state", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveSyncState(SyncStateVo syncStateVo) {
+        try {
+            syncStateDao.saveSyncState(syncStateVo);
+            log.info("Saved sync state for job {}: highWaterMark={}, runsSinceFull={}",
+                    syncStateVo.getJobName(), syncStateVo.getHighWaterMark(), syncStateVo.getRunsSinceFull());
+        } catch (Exception e) {
+            log.error("Failed to save sync state for job: {}", syncStateVo.getJobName(), e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to save sync state", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void resetSyncState(String jobName) {
+        try {
+            syncStateDao.deleteSyncState(jobName);
+            log.info("Reset sync state for job {}", jobName);
+        } catch (Exception e) {
+            log.error("Failed to reset sync state for job: {}", jobName, e);
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                "Failed to reset sync state", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.batch.service;
+
+import com.project.batch.vo.ConcurrencyLimitVo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 외부 API 동시 요청 수를 제한하는 AIMD 방식의 적응형 리미터입니다. 모든 파티션이 하나의 인스턴스를 공유합니다.
+ * <p>
+ * - 응답이 기준 지연(관측된 최소 지연 x tolerance) 이내면 limit을 조금씩 늘리고 (요청당 +1/limit, 즉 왕복 1회당 약 +1)
+ * - 기준보다 느리거나 실패하면 limit에 backoffRatio를 곱해 줄입니다.
+ * 감소 직전에 시작된 요청의 결과로는 다시 줄이지 않아, 느린 응답이 몰려도 limit이 한 번에 바닥까지 떨어지지 않습니다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+
+    @Value("${batch.limiter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.limiter.initial-limit:8}")
+    private int initialLimit;
+
+    @Value("${batch.limiter.min-limit:1}")
+    private int minLimit;
+
+    @Value("${batch.limiter.max-limit:64}")
+    private int maxLimit;
+
+    @Value("${batch.limiter.latency-tolerance:2.0}")
+    private double latencyTolerance;
+
+    @Value("${batch.limiter.backoff-ratio:0.7}")
+    private double backoffRatio;
+
+    private double limit = -1;
+    private int inFlight;
+    private long baselineLatencyNanos = Long.MAX_VALUE;
+    private long lastLatencyNanos;
+    // nanoTime은 기준점이 임의(음수 가능)이므로 생성 시각으로 시작하고 차이로만 비교
+    private long lastDecreaseNanos = System.nanoTime();
+
+    /**
+     * 허용 한도 안에서 요청을 시작합니다. 한도가 찼으면 다른 요청이 끝날 때까지 대기합니다.
+     *
+     * @return release()에 넘겨야 하는 요청 시작 시각(nanoTime)
+     */
+    public long acquire() throws InterruptedException {
+        if (!enabled) {
+            return System.nanoTime();
+        }
+
+        lock.lock();
+        try {
+            if (limit < 0) {
+                limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+            }
+            while (inFlight >= (int) limit) {
+                permitAvailable.await();
+            }
+            inFlight++;
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long startNanos, boolean success) {
+        if (!enabled) {
+            return;
+        }
+
+        long latency = System.nanoTime() - startNanos;
+
+        lock.lock();
+        try {
+            inFlight--;
+            lastLatencyNanos = latency;
+
+            if (success) {
+                // 최소 지연을 기준으로 하되, 네트워크 상태가 바뀌는 것에 대비해 아주 천천히 따라 올라감
+                baselineLatencyNanos = latency < baselineLatencyNanos
+                        ? latency
+                        : baselineLatencyNanos + (latency - baselineLatencyNanos) / 100;
+            }
+
+            boolean overloaded = !success || latency > baselineLatencyNanos * latencyTolerance;
+            if (overloaded) {
+                // 마지막 감소 이후에 시작한 요청만 감소를 일으킴 (같은 혼잡 구간의 중복 감소 방지)
+                if (startNanos - lastDecreaseNanos > 0) {
+                    double previous = limit;
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = System.nanoTime();
+                    log.debug("Concurrency limit decreased {} -> {} (latency: {}ms, success: {})",
+                            (int) previous, (int) limit, TimeUnit.NANOSECONDS.toMillis(latency), success);
+                }
+            } else {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+
+            permitAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ConcurrencyLimitVo getStatus() {
+        lock.lock();
+        try {
+            return ConcurrencyLimitVo.builder()
+                    .enabled(enabled)
+                    .limit(limit < 0 ? initialLimit : (int) limit)
+                    .inFlight(inFlight)
+                    .minLimit(minLimit)
+                    .maxLimit(maxLimit)
+                    .baselineLatencyMs(baselineLatencyNanos == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(baselineLatencyNanos))
+                    .lastLatencyMs(TimeUnit.NANOSECONDS.toMillis(lastLatencyNanos))
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
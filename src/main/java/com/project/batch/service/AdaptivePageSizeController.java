@@ -0,0 +1,126 @@
+package com.project.batch.service;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.vo.PageSizeVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 요청 크기(_limit)를 응답 지연과 크기에 맞춰 조정하는 적응형 컨트롤러입니다. 모든 Reader가 하나의 인스턴스를 공유합니다.
+ * <p>
+ * 요청마다 아이템당 지연과 아이템당 바이트를 지수 이동 평균으로 갱신하고, 다음 요청 크기를
+ * min(목표 지연 / 아이템당 지연, 최대 응답 바이트 / 아이템당 바이트, 현재 크기 x 2)로 정합니다.
+ * 늘릴 때는 한 번에 최대 두 배까지만, 줄일 때는 바로 목표 크기로 내려가며 항상 [minSize, maxSize] 범위를 지킵니다.
+ * <p>
+ * 페이지 보관소(녹화/재생)와 조건부 요청 캐시는 요청 URL을 키로 쓰므로, 둘 중 하나라도 켜져 있으면
+ * 크기가 달라지는 _start/_limit URL 대신 항상 단위 페이지(_page)로 요청하도록 조정을 멈춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdaptivePageSizeController {
+
+    private static final double SMOOTHING = 0.3;
+
+    private final PageArchive pageArchive;
+    private final PageResponseCache responseCache;
+
+    // false면 항상 Reader의 기본 페이지 크기로 요청 (기존 동작)
+    @Value("${batch.reader.page-size.adaptive:false}")
+    private boolean enabled;
+
+    @Value("${batch.reader.page-size.initial:50}")
+    private int initialSize;
+
+    @Value("${batch.reader.page-size.min:10}")
+    private int minSize;
+
+    @Value("${batch.reader.page-size.max:" + BatchConstants.DEFAULT_PAGE_SIZE + "}")
+    private int maxSize;
+
+    // 요청 하나가 이 시간 안에 끝나도록 크기를 맞춤
+    @Value("${batch.reader.page-size.target-latency-ms:500}")
+    private long targetLatencyMs;
+
+    // 응답 본문 하나의 최대 크기 (메모리/재시도 비용 상한)
+    @Value("${batch.reader.page-size.max-response-bytes:1048576}")
+    private long maxResponseBytes;
+
+    private int size = -1;
+    private double nanosPerItem = -1;
+    private double bytesPerItem = -1;
+    private long samples;
+
+    /**
+     * 크기 조정이 실제로 적용되는지 여부 - 설정이 켜져 있고 URL 기반 보관소/캐시가 모두 꺼져 있어야 합니다.
+     */
+    public boolean isEnabled() {
+        return enabled && !pageArchive.isRecording() && !pageArchive.isReplaying() && !responseCache.isEnabled();
+    }
+
+    /**
+     * 다음 요청 크기를 돌려줍니다. Reader의 페이지 단위(unit)의 배수로 내림하며 최소 unit입니다.
+     */
+    public synchronized int nextLimit(int unit) {
+        if (!isEnabled()) {
+            return unit;
+        }
+        int current = currentSize();
+        return Math.max(unit, current / unit * unit);
+    }
+
+    /**
+     * 요청 결과를 반영합니다.
+     *
+     * @param delivered    응답에 담긴 아이템 수 (0이면 데이터 끝 - 반영하지 않음)
+     * @param bytes        응답 본문 바이트 수 (압축 해제 후)
+     * @param elapsedNanos 요청 지연 (동시성 리미터 대기 시간 제외)
+     */
+    public synchronized void record(int delivered, long bytes, long elapsedNanos) {
+        if (!isEnabled() || delivered <= 0) {
+            return;
+        }
+
+        nanosPerItem = smooth(nanosPerItem, (double) elapsedNanos / delivered);
+        bytesPerItem = smooth(bytesPerItem, (double) Math.max(1, bytes) / delivered);
+        samples++;
+
+        int previous = currentSize();
+        long byLatency = (long) (TimeUnit.MILLISECONDS.toNanos(targetLatencyMs) / nanosPerItem);
+        long byBytes = (long) (maxResponseBytes / bytesPerItem);
+        long next = Math.min(Math.min(byLatency, byBytes), (long) previous * 2);
+        size = (int) Math.max(minSize, Math.min(maxSize, next));
+
+        if (size != previous) {
+            log.debug("Page size adjusted {} -> {} (latency/item: {}us, bytes/item: {})",
+                    previous, size, (long) (nanosPerItem / 1000), (long) bytesPerItem);
+        }
+    }
+
+    public synchronized PageSizeVo getStatus() {
+        return PageSizeVo.builder()
+                .enabled(isEnabled())
+                .size(isEnabled() ? currentSize() : minSize)
+                .minSize(minSize)
+                .maxSize(maxSize)
+                .latencyPerItemMicros(nanosPerItem < 0 ? 0 : (long) (nanosPerItem / 1000))
+                .bytesPerItem(bytesPerItem < 0 ? 0 : (long) bytesPerItem)
+                .samples(samples)
+                .build();
+    }
+
+    private int currentSize() {
+        if (size < 0) {
+            size = Math.max(minSize, Math.min(initialSize, maxSize));
+        }
+        return size;
+    }
+
+    private static double smooth(double average, double sample) {
+        return average < 0 ? sample : average + SMOOTHING * (sample - average);
+    }
+}
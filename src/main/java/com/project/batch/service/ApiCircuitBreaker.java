@@ -0,0 +1,143 @@
+package com.project.batch.service;
+
+import com.project.batch.vo.CircuitBreakerVo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 외부 API 호출용 서킷 브레이커입니다.
+ * <p>
+ * - CLOSED    : 정상 호출. 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN      : 호출하지 않고 즉시 대체 경로 사용. openDurationMs가 지나면 HALF_OPEN
+ * - HALF_OPEN : halfOpenProbes개의 시험 호출만 허용. 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+@Component
+public class ApiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Value("${batch.circuit-breaker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.circuit-breaker.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${batch.circuit-breaker.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    @Value("${batch.circuit-breaker.half-open-probes:1}")
+    private int halfOpenProbes;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private long openedAtMillis;
+    private long rejectedCalls;
+
+    /**
+     * 호출 가능 여부를 판단합니다. 요청 하나마다 한 번 호출하며, true를 받은 호출자는
+     * 반드시 onSuccess/onFailure/release 중 하나를 정확히 한 번 호출해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < openDurationMs) {
+                rejectedCalls++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejectedCalls++;
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+
+        consecutiveFailures = 0;
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            if (++probeSuccesses >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (!enabled) {
+            return;
+        }
+
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 허가를 받았지만 결과 없이 끝난 요청(인터럽트, 응답 처리 중 호출자 오류 등)을 반납합니다.
+     * 성공/실패로 세지 않고 HALF_OPEN 시험 호출 슬롯만 돌려줍니다.
+     */
+    public synchronized void release() {
+        if (!enabled) {
+            return;
+        }
+
+        if (state == State.HALF_OPEN) {
+            probesInFlight = Math.max(0, probesInFlight - 1);
+        }
+    }
+
+    public synchronized void reset() {
+        consecutiveFailures = 0;
+        rejectedCalls = 0;
+        transitionTo(State.CLOSED);
+    }
+
+    public synchronized CircuitBreakerVo getStatus() {
+        return CircuitBreakerVo.builder()
+                .enabled(enabled)
+                .state(state.name())
+                .consecutiveFailures(consecutiveFailures)
+                .failureThreshold(failureThreshold)
+                .rejectedCalls(rejectedCalls)
+                .openedAt(openedAtMillis > 0 ? LocalDateTime.ofInstant(Instant.ofEpochMilli(openedAtMillis), ZoneId.systemDefault()).toString() : null)
+                .openDurationMs(openDurationMs)
+                .build();
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        log.warn("Circuit breaker state changed: {} -> {} (consecutive failures: {})", state, next, consecutiveFailures);
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAtMillis = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.batch.service;
+
+import com.project.batch.vo.CircuitBreakerVo;
+import com.project.batch.vo.ConcurrencyLimitVo;
+import com.project.batch.vo.HttpPoolStatsVo;
+import com.project.batch.vo.PageSizeVo;
+import com.project.batch.vo.ResponseCacheVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchMonitorService {
+
+    private final ObjectProvider<PoolingHttpClientConnectionManager> connectionManager;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ApiCircuitBreaker circuitBreaker;
+    private final PageResponseCache responseCache;
+    private final AdaptivePageSizeController pageSizeController;
+
+    @Value("${batch.http.engine:simple}")
+    private String engine;
+
+    /**
+     * HTTP 커넥션 풀 현황을 조회합니다.
+     * pooled 엔진이 아니면 풀 수치는 0으로 반환되며, gridSize와 비교해 풀 크기가 충분한지 확인할 수 있습니다.
+     */
+    public HttpPoolStatsVo getHttpPoolStats() {
+        HttpPoolStatsVo.HttpPoolStatsVoBuilder builder = HttpPoolStatsVo.builder()
+                .engine(engine)
+                .gridSize(Runtime.getRuntime().availableProcessors());
+
+        PoolingHttpClientConnectionManager manager = connectionManager.getIfAvailable();
+        if (manager != null) {
+            PoolStats stats = manager.getTotalStats();
+            builder.leased(stats.getLeased())
+                    .pending(stats.getPending())
+                    .available(stats.getAvailable())
+                    .max(stats.getMax());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 외부 API 동시 요청 한도(현재 limit, 진행 중 요청 수, 기준 지연)를 조회합니다.
+     */
+    public ConcurrencyLimitVo getConcurrencyLimit() {
+        return concurrencyLimiter.getStatus();
+    }
+
+    public CircuitBreakerVo getCircuitBreaker() {
+        return circuitBreaker.getStatus();
+    }
+
+    /**
+     * 서킷 브레이커를 강제로 CLOSED 상태로 되돌립니다. (API 복구를 수동으로 확인한 경우)
+     */
+    public CircuitBreakerVo resetCircuitBreaker() {
+        circuitBreaker.reset();
+        log.info("Circuit breaker manually reset");
+        return circuitBreaker.getStatus();
+    }
+
+    /**
+     * 조건부 요청 캐시 현황(보관 건수/바이트, 304 재사용 횟수)을 조회합니다.
+     */
+    public ResponseCacheVo getResponseCache() {
+        return responseCache.getStatus();
+    }
+
+    /**
+     * Reader 요청 크기(_limit) 현황(현재 크기, 아이템당 지연/바이트)을 조회합니다.
+     */
+    public PageSizeVo getPageSize() {
+        return pageSizeController.getStatus();
+    }
+}
@@ -0,0 +1,237 @@
+package com.project.batch.service;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
+import com.project.batch.model.Post;
+import com.project.batch.util.LongLongHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job별 Post 내용 해시 저장소 (변경 감지용).
+ * <p>
+ * Post ID → 64비트 내용 해시를 long 기반 맵(LongLongHashMap)에 보관하고, Job이 정상 종료되면 파일로 저장해
+ * 애플리케이션 재시작 후에도 유지합니다. 실행 중 계산한 해시는 Job 실행(jobExecutionId)별로 따로(staged) 모았다가
+ * COMPLETED일 때만 반영하므로, 실패한 실행의 아이템은 다음 실행에서 변경된 것으로 다시 처리되고
+ * 같은 Job이 겹쳐 실행되어도 서로의 staged 해시를 지우지 않습니다.
+ * 동시 접근은 ID 기준으로 나눈 스트라이프 단위로 잠급니다.
+ */
+@Slf4j
+@Service
+public class ContentHashStore {
+
+    private static final int STRIPES = 16;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // 변경 감지 사용 여부
+    @Value("${batch.change-detection.enabled:false}")
+    private boolean enabled;
+
+    // Job별 해시 파일을 저장할 디렉터리
+    @Value("${batch.change-detection.dir:./data/content-hash}")
+    private String storeDir;
+
+    private final Map<String, JobHashes> jobs = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 마지막으로 완료된 실행과 비교해 내용이 바뀌었거나 새로운 Post인지 확인하고, 이번 실행의 해시를 기록합니다.
+     */
+    public boolean checkAndStage(String jobName, long jobExecutionId, Post post) {
+        if (post.getId() == null) {
+            return true;
+        }
+
+        JobHashes hashes = hashesOf(jobName);
+        LongLongHashMap[] staged = hashes.stagedOf(jobExecutionId);
+        long id = post.getId();
+        long hash = hash(post);
+        int stripe = stripeOf(id);
+
+        synchronized (hashes.locks[stripe]) {
+            LongLongHashMap committed = hashes.committed[stripe];
+            boolean changed = !committed.containsKey(id) || committed.get(id, 0L) != hash;
+            if (changed) {
+                staged[stripe].put(id, hash);
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * 해당 실행에서 기록한 해시를 반영하고 파일로 저장합니다.
+     */
+    public void commit(String jobName, long jobExecutionId) {
+        JobHashes hashes = hashesOf(jobName);
+        LongLongHashMap[] staged = hashes.staged.remove(jobExecutionId);
+        int changed = 0;
+
+        if (staged != null) {
+            for (int stripe = 0; stripe < STRIPES; stripe++) {
+                synchronized (hashes.locks[stripe]) {
+                    LongLongHashMap committed = hashes.committed[stripe];
+                    staged[stripe].forEach(committed::put);
+                    changed += staged[stripe].size();
+                }
+            }
+        }
+
+        persist(jobName, hashes);
+        log.info("Committed {} content hashes for job {} (execution {})", changed, jobName, jobExecutionId);
+    }
+
+    /**
+     * 해당 실행에서 기록한 해시를 버립니다. (실패/중단된 실행)
+     */
+    public void discard(String jobName, long jobExecutionId) {
+        hashesOf(jobName).staged.remove(jobExecutionId);
+    }
+
+    /**
+     * 사용자 ID, 제목, 본문에 대한 64비트 FNV-1a 해시 (중간 문자열/바이트 배열 없이 계산)
+     * 소스 필드만 해시해야 하므로 Reader가 본문에 실행마다 달라지는 정보(파티션/스레드 접미어)를 붙이지 않은 상태여야 합니다.
+     */
+    public static long hash(Post post) {
+        long h = FNV_OFFSET;
+        h = mix(h, post.getUserId() != null ? post.getUserId() : 0L);
+        h = mix(h, post.getTitle());
+        h = mix(h, post.getBody());
+        return h;
+    }
+
+    private static long mix(long h, long value) {
+        for (int i = 0; i < 8; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    private static long mix(long h, String value) {
+        if (value == null) {
+            return mix(h, -1L);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            h ^= c & 0xff;
+            h *= FNV_PRIME;
+            h ^= c >>> 8;
+            h *= FNV_PRIME;
+        }
+        // 필드 경계 구분 ("ab"+"c"와 "a"+"bc"가 같은 해시가 되지 않도록)
+        return mix(h, value.length());
+    }
+
+    private JobHashes hashesOf(String jobName) {
+        return jobs.computeIfAbsent(jobName, this::load);
+    }
+
+    private static int stripeOf(long id) {
+        return (int) (id ^ (id >>> 32)) & (STRIPES - 1);
+    }
+
+    private JobHashes load(String jobName) {
+        JobHashes hashes = new JobHashes();
+        Path file = fileOf(jobName);
+        if (!Files.exists(file)) {
+            log.info("No content hash file for job {} - all posts will be treated as changed", jobName);
+            return hashes;
+        }
+
+        int loaded = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                long id;
+                try {
+                    id = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                long hash = in.readLong();
+                hashes.committed[stripeOf(id)].put(id, hash);
+                loaded++;
+            }
+            log.info("Loaded {} content hashes for job {} from {}", loaded, jobName, file);
+        } catch (IOException e) {
+            // 손상된 파일은 무시하고 전체를 변경된 것으로 처리
+            log.warn("Failed to load content hashes from {}: {}", file, e.getMessage());
+            return new JobHashes();
+        }
+        return hashes;
+    }
+
+    private void persist(String jobName, JobHashes hashes) {
+        Path file = fileOf(jobName);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try {
+            Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                for (int stripe = 0; stripe < STRIPES; stripe++) {
+                    synchronized (hashes.locks[stripe]) {
+                        hashes.committed[stripe].forEach((id, hash) -> {
+                            try {
+                                out.writeLong(id);
+                                out.writeLong(hash);
+                            } catch (IOException e) {
+                                throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                                        "Failed to write content hash", e);
+                            }
+                        });
+                    }
+                }
+            }
+            // 쓰는 도중 실패해도 이전 파일이 남도록 임시 파일을 원자적으로 교체
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                    "Failed to persist content hashes for job " + jobName, e);
+        }
+    }
+
+    private Path fileOf(String jobName) {
+        return Paths.get(storeDir, jobName + ".hash");
+    }
+
+    private static final class JobHashes {
+        private final Object[] locks = new Object[STRIPES];
+        private final LongLongHashMap[] committed = new LongLongHashMap[STRIPES];
+        // jobExecutionId → 스트라이프별 staged 해시 (스트라이프 잠금은 committed와 공유)
+        private final Map<Long, LongLongHashMap[]> staged = new ConcurrentHashMap<>();
+
+        private JobHashes() {
+            for (int i = 0; i < STRIPES; i++) {
+                locks[i] = new Object();
+                committed[i] = new LongLongHashMap(1024);
+            }
+        }
+
+        private LongLongHashMap[] stagedOf(long jobExecutionId) {
+            return staged.computeIfAbsent(jobExecutionId, key -> {
+                LongLongHashMap[] stripes = new LongLongHashMap[STRIPES];
+                for (int i = 0; i < STRIPES; i++) {
+                    stripes[i] = new LongLongHashMap(64);
+                }
+                return stripes;
+            });
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.project.batch.service;
+
+import com.project.batch.repository.SyncStateRepository;
+import com.project.batch.vo.SyncStateVo;
+import com.project.batch.vo.SyncWindowVo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 증분(Delta) 동기화 서비스.
+ * <p>
+ * Job 시작 시 마지막으로 완료된 실행의 최대 Post ID(high-water mark)를 읽어 이번 실행의 범위(SyncWindowVo)를 정하고,
+ * Reader는 그 범위의 페이지부터 요청해 high-water mark보다 큰 ID만 반환합니다.
+ * Job이 COMPLETED로 끝났을 때만 이번 실행에서 기록한(Writer가 성공한) 최대 ID로 high-water mark를 갱신하므로,
+ * 실패한 실행의 범위는 다음 실행에서 다시 처리됩니다.
+ * <p>
+ * 소스가 ID 오름차순으로 페이징된다는 전제로 시작 페이지를 계산하며,
+ * 주기적인 전체 동기화(full-reconcile-every) 또는 fullSync 파라미터로 전체 범위를 다시 맞출 수 있습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeltaSyncService {
+
+    public static final String MODE_FULL = "full";
+    public static final String MODE_INCREMENTAL = "incremental";
+
+    // Job ExecutionContext 키 - 재시작 시에도 같은 범위를 사용
+    private static final String KEY_SINCE_ID = "sync.sinceId";
+    private static final String KEY_FULL = "sync.full";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final SyncStateRepository syncStateRepository;
+
+    // 실행 중인 Job별 기록한 최대 ID (jobExecutionId → max)
+    private final Map<Long, LongAccumulator> maxSeenIds = new ConcurrentHashMap<>();
+
+    // full: 항상 전체 처리 | incremental: high-water mark 이후만 처리
+    @Value("${batch.sync.mode:full}")
+    private String syncMode;
+
+    // 증분 실행 N회마다 한 번 전체 동기화 (0이면 자동 전체 동기화 없음)
+    @Value("${batch.sync.full-reconcile-every:0}")
+    private int fullReconcileEvery;
+
+    @Value("${batch.sync.page-size:10}")
+    private int pageSize;
+
+    /**
+     * Job 시작 시 이번 실행의 범위를 결정해 Job ExecutionContext에 기록합니다.
+     */
+    public SyncWindowVo openWindow(JobExecution jobExecution) {
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+        maxSeenIds.put(jobExecution.getId(), new LongAccumulator(Math::max, 0L));
+
+        if (jobContext.containsKey(KEY_SINCE_ID)) {
+            // 재시작: 처음 실행 때 정한 범위 유지
+            return toWindow(jobContext.getLong(KEY_SINCE_ID), jobContext.getString(KEY_FULL, "true"));
+        }
+
+        String jobName = jobExecution.getJobInstance().getJobName();
+        Optional<SyncStateVo> state = syncStateRepository.getSyncState(jobName);
+
+        boolean fullSync = !MODE_INCREMENTAL.equalsIgnoreCase(syncMode)
+                || state.isEmpty()
+                || isFullSyncRequested(jobExecution)
+                || (fullReconcileEvery > 0 && state.get().getRunsSinceFull() + 1 >= fullReconcileEvery);
+
+        long sinceId = fullSync ? 0L : state.get().getHighWaterMark();
+        jobContext.putLong(KEY_SINCE_ID, sinceId);
+        jobContext.putString(KEY_FULL, String.valueOf(fullSync));
+
+        SyncWindowVo window = toWindow(sinceId, String.valueOf(fullSync));
+        log.info("Sync window for job {}: {} (sinceId={}, fromPage={})",
+                jobName, fullSync ? "full" : "incremental", sinceId, window.getFromPage());
+        return window;
+    }
+
+    /**
+     * Job 종료 시 COMPLETED면 high-water mark를 갱신합니다.
+     */
+    public void closeWindow(JobExecution jobExecution) {
+        LongAccumulator maxSeen = maxSeenIds.remove(jobExecution.getId());
+        if (maxSeen == null || jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            return;
+        }
+
+        String jobName = jobExecution.getJobInstance().getJobName();
+        ExecutionContext jobContext = jobExecution.getExecutionContext();
+        boolean fullSync = Boolean.parseBoolean(jobContext.getString(KEY_FULL, "true"));
+        SyncStateVo previous = syncStateRepository.getSyncState(jobName).orElse(null);
+
+        SyncStateVo next = SyncStateVo.builder()
+                .jobName(jobName)
+                .build();
+        if (fullSync || previous == null) {
+            next.setHighWaterMark(maxSeen.get());
+            next.setRunsSinceFull(0);
+            next.setLastFullSyncDate(LocalDateTime.now().format(DATE_FORMAT));
+        } else {
+            next.setHighWaterMark(Math.max(previous.getHighWaterMark(), maxSeen.get()));
+            next.setRunsSinceFull(previous.getRunsSinceFull() + 1);
+            next.setLastFullSyncDate(previous.getLastFullSyncDate());
+        }
+        syncStateRepository.saveSyncState(next);
+    }
+
+    /**
+     * 현재 Step이 속한 Job 실행의 범위. Job에 증분 동기화 Listener가 없으면 전체 범위입니다.
+     */
+    public SyncWindowVo currentWindow() {
+        ExecutionContext jobContext = currentJobContext();
+        if (jobContext == null || !jobContext.containsKey(KEY_SINCE_ID)) {
+            return SyncWindowVo.full();
+        }
+        return toWindow(jobContext.getLong(KEY_SINCE_ID), jobContext.getString(KEY_FULL, "true"));
+    }
+
+    /**
+     * Writer가 기록을 마친 ID를 반영합니다. (DeltaSyncWriteListener가 청크마다 최대 ID로 한 번 호출)
+     */
+    public void observe(long postId) {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return;
+        }
+        LongAccumulator maxSeen = maxSeenIds.get(context.getStepExecution().getJobExecutionId());
+        if (maxSeen != null) {
+            maxSeen.accumulate(postId);
+        }
+    }
+
+    private SyncWindowVo toWindow(long sinceId, String fullSync) {
+        // sinceId 다음 ID가 들어 있는 페이지부터 요청
+        int fromPage = (int) (sinceId / pageSize) + 1;
+        return new SyncWindowVo(sinceId, fromPage, Boolean.parseBoolean(fullSync));
+    }
+
+    private boolean isFullSyncRequested(JobExecution jobExecution) {
+        String fullSync = jobExecution.getJobParameters().getString("fullSync");
+        String jobParam = jobExecution.getJobParameters().getString("JobParam");
+        return Boolean.parseBoolean(fullSync) || "fullSync".equalsIgnoreCase(jobParam);
+    }
+
+    private ExecutionContext currentJobContext() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return null;
+        }
+        return context.getStepExecution().getJobExecution().getExecutionContext();
+    }
+}
@@ -0,0 +1,288 @@
+package com.project.batch.service;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
+import com.project.batch.util.ByteBufferInputStream;
+import com.project.batch.util.MappedColumnFile;
+import com.project.batch.util.StorageCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * API 페이지 응답 본문 보관소 (녹화/재생).
+ * <p>
+ * record 모드에서는 받은 응답 본문을 그대로 메모리 매핑 데이터 파일(pages.dat)에 이어 붙이고,
+ * 요청 URL → (offset, length)를 인덱스 파일(pages.idx)에 한 건씩 추가합니다. 같은 URL을 다시 녹화하면 마지막 기록이 유효합니다.
+ * replay 모드에서는 데이터 파일 전체를 읽기 전용으로 매핑해 두고, 요청한 URL의 구간을 복사 없이 slice로 돌려주므로
+ * 네트워크 없이 같은 입력으로 반복 실행할 수 있습니다.
+ * 본문은 batch.storage.codec으로 압축해 저장하며, 압축 방식은 기록마다 인덱스에 남깁니다.
+ * <p>
+ * 인덱스 파일은 매직 넘버와 형식 버전으로 시작합니다. 헤더가 없거나 버전이 다른 인덱스(이전 형식)는 읽지 않고
+ * 빈 보관소로 취급하며, record 모드에서는 새 인덱스로 다시 시작합니다. 중간에 끊긴 마지막 기록은 잘라냅니다.
+ */
+@Slf4j
+@Service
+public class PageArchive implements DisposableBean {
+
+    public static final String MODE_OFF = "off";
+    public static final String MODE_RECORD = "record";
+    public static final String MODE_REPLAY = "replay";
+
+    private static final String DATA_FILE = "pages.dat";
+    private static final String INDEX_FILE = "pages.idx";
+    private static final long INITIAL_DATA_SIZE = 4L * 1024 * 1024;
+
+    // 인덱스 파일 헤더 ("PGIX" + 형식 버전) - 기록 형식이 바뀌면 버전을 올림
+    private static final int INDEX_MAGIC = 0x50474958;
+    private static final int INDEX_VERSION = 1;
+    private static final int INDEX_HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+
+    // off: 사용 안 함 | record: 실제 응답을 녹화 | replay: 녹화된 응답만 사용 (네트워크 호출 없음)
+    @Value("${batch.api.archive.mode:off}")
+    private String mode;
+
+    // 데이터/인덱스 파일 위치
+    @Value("${batch.api.archive.dir:./data/page-archive}")
+    private String archiveDir;
+
+    // 새로 기록할 본문의 압축 방식 (none | deflate | gzip)
+    @Value("${batch.storage.codec:none}")
+    private String storageCodec;
+
+    private final Map<String, Entry> index = new ConcurrentHashMap<>();
+    private volatile boolean opened;
+
+    // record 모드
+    private StorageCodec codec;
+    private MappedColumnFile dataFile;
+    private DataOutputStream indexOut;
+
+    // replay 모드
+    private ByteBuffer replayData;
+
+    public boolean isRecording() {
+        return MODE_RECORD.equalsIgnoreCase(mode);
+    }
+
+    public boolean isReplaying() {
+        return MODE_REPLAY.equalsIgnoreCase(mode);
+    }
+
+    /**
+     * 녹화된 응답 본문을 읽는 스트림을 돌려줍니다. 녹화되지 않은 URL이면 null입니다.
+     * 매핑 영역의 slice를 복사 없이 읽으며, 압축된 본문은 읽는 동안 풀립니다.
+     */
+    public InputStream open(String key) throws IOException {
+        ensureOpen();
+        Entry entry = index.get(key);
+        if (entry == null || replayData == null) {
+            return null;
+        }
+        ByteBuffer page = replayData.slice((int) entry.offset, entry.length).asReadOnlyBuffer();
+        return entry.codec.decode(new ByteBufferInputStream(page));
+    }
+
+    /**
+     * 응답 본문을 녹화합니다. 같은 URL의 마지막 기록과 내용이 같으면 다시 쓰지 않습니다.
+     * 녹화 실패는 로그만 남기며 조회 결과에는 영향을 주지 않습니다.
+     */
+    public synchronized void record(String key, byte[] body) {
+        ensureOpen();
+        if (dataFile == null) {
+            return;
+        }
+
+        try {
+            byte[] encoded = codec.encode(body);
+
+            Entry previous = index.get(key);
+            if (previous != null && previous.codec == codec && previous.length == encoded.length
+                    && dataFile.slice(previous.offset, previous.length).equals(ByteBuffer.wrap(encoded))) {
+                return;
+            }
+
+            if (dataFile.remaining() < encoded.length) {
+                throw new IOException("Page archive is full: " + dataFile.position() + " bytes");
+            }
+            long offset = dataFile.position();
+            dataFile.put(encoded);
+
+            // 데이터를 먼저 쓰고 인덱스를 추가 - 인덱스에 있는 구간은 항상 데이터 파일에 존재
+            indexOut.writeUTF(key);
+            indexOut.writeByte(codec.id());
+            indexOut.writeLong(offset);
+            indexOut.writeInt(encoded.length);
+            indexOut.flush();
+
+            index.put(key, new Entry(offset, encoded.length, codec));
+        } catch (IOException e) {
+            log.warn("Failed to record page {}: {}", key, e.getMessage());
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        if (indexOut != null) {
+            indexOut.close();
+            indexOut = null;
+        }
+        if (dataFile != null) {
+            log.info("Closing page archive: {} pages, {} bytes", index.size(), dataFile.position());
+            dataFile.close();
+            dataFile = null;
+        }
+        replayData = null;
+    }
+
+    private void ensureOpen() {
+        if (opened) {
+            return;
+        }
+        synchronized (this) {
+            if (opened) {
+                return;
+            }
+            try {
+                open();
+            } catch (IOException e) {
+                throw new BatchException(BatchConstants.ErrorCodes.DATA_ACCESS_ERROR,
+                        "Failed to open page archive in " + archiveDir, e);
+            }
+            opened = true;
+        }
+    }
+
+    private void open() throws IOException {
+        Path dir = Paths.get(archiveDir);
+        Path data = dir.resolve(DATA_FILE);
+        Path indexFile = dir.resolve(INDEX_FILE);
+
+        long dataSize = Files.exists(data) ? Files.size(data) : 0;
+        long validIndexBytes = loadIndex(indexFile);
+        long end = validateEntries(dataSize);
+
+        if (isRecording()) {
+            codec = StorageCodec.of(storageCodec);
+            Files.createDirectories(dir);
+            dataFile = MappedColumnFile.open(data, Math.max(INITIAL_DATA_SIZE, end), end);
+            indexOut = openIndexForAppend(indexFile, validIndexBytes);
+            log.info("Recording API pages to {} with codec {} ({} pages already archived)", dir, codec, index.size());
+        } else if (isReplaying()) {
+            if (dataSize == 0) {
+                log.warn("Page archive {} is empty - every page will be replayed as empty", dir);
+                return;
+            }
+            replayData = MappedColumnFile.mapReadOnly(data);
+            log.info("Replaying API pages from {} ({} pages, {} bytes)", dir, index.size(), dataSize);
+        }
+    }
+
+    /**
+     * 인덱스를 읽어 메모리에 올리고, 온전히 읽은 마지막 기록까지의 바이트 수를 돌려줍니다.
+     * 헤더가 없거나 형식 버전이 다르면 경고 후 빈 인덱스로 취급하고 0을 돌려줍니다.
+     */
+    private long loadIndex(Path indexFile) {
+        if (!Files.exists(indexFile)) {
+            return 0;
+        }
+
+        long valid = 0;
+        try {
+            // 인덱스는 작으므로 한 번에 읽고, 남은 바이트 수로 온전한 기록의 끝 위치를 계산
+            byte[] bytes = Files.readAllBytes(indexFile);
+            ByteArrayInputStream buffer = new ByteArrayInputStream(bytes);
+            DataInputStream in = new DataInputStream(buffer);
+
+            if (bytes.length < INDEX_HEADER_SIZE || in.readInt() != INDEX_MAGIC) {
+                log.warn("Page archive index {} has no format header (old or foreign file) - ignoring it", indexFile);
+                return 0;
+            }
+            int version = in.readUnsignedByte();
+            if (version != INDEX_VERSION) {
+                log.warn("Page archive index {} has unsupported format version {} (expected {}) - ignoring it",
+                        indexFile, version, INDEX_VERSION);
+                return 0;
+            }
+            valid = INDEX_HEADER_SIZE;
+
+            while (true) {
+                try {
+                    String key = in.readUTF();
+                    StorageCodec entryCodec = StorageCodec.fromId(in.readUnsignedByte());
+                    long offset = in.readLong();
+                    int length = in.readInt();
+                    index.put(key, new Entry(offset, length, entryCodec));
+                    valid = bytes.length - buffer.available();
+                } catch (EOFException e) {
+                    break;
+                }
+            }
+            if (valid < bytes.length) {
+                log.warn("Page archive index {} ends with a truncated record - {} trailing bytes dropped",
+                        indexFile, bytes.length - valid);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to load page archive index {}: {}", indexFile, e.getMessage());
+        }
+        return valid;
+    }
+
+    /**
+     * 데이터 파일 범위를 벗어난 구간을 버리고, 데이터 파일의 유효한 끝 위치를 돌려줍니다.
+     */
+    private long validateEntries(long dataSize) {
+        index.values().removeIf(entry -> entry.offset + entry.length > dataSize);
+        long end = 0;
+        for (Entry entry : index.values()) {
+            end = Math.max(end, entry.offset + entry.length);
+        }
+        return end;
+    }
+
+    /**
+     * 녹화용 인덱스를 엽니다. 유효한 인덱스가 없으면 헤더부터 새로 쓰고,
+     * 끝에 끊긴 기록이 있으면 잘라낸 뒤 그 뒤에 이어서 추가합니다.
+     */
+    private DataOutputStream openIndexForAppend(Path indexFile, long validBytes) throws IOException {
+        if (validBytes == 0) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+            out.writeInt(INDEX_MAGIC);
+            out.writeByte(INDEX_VERSION);
+            out.flush();
+            return out;
+        }
+
+        if (Files.size(indexFile) > validBytes) {
+            try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+            }
+        }
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexFile,
+                StandardOpenOption.APPEND)));
+    }
+
+    private record Entry(long offset, int length, StorageCodec codec) {}
+}
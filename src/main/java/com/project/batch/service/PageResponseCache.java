@@ -0,0 +1,238 @@
+package com.project.batch.service;
+
+import com.project.batch.util.StorageCodec;
+import com.project.batch.vo.ResponseCacheVo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 요청(Conditional GET)용 페이지 응답 캐시.
+ * <p>
+ * 페이지 URL별로 마지막 응답 본문과 검증자(ETag, Last-Modified)를 보관하고, 다음 요청 때 If-None-Match / If-Modified-Since로
+ * 보내 304 Not Modified를 받으면 보관한 본문을 그대로 사용합니다.
+ * 메모리 계층은 본문 바이트 합계(maxBytes) 기준 LRU로 제한하고, 디스크 계층을 켜면 URL별 파일로도 저장해
+ * 메모리에서 밀려나거나 애플리케이션이 재시작된 뒤에도 조건부 요청을 보낼 수 있습니다.
+ * 304 재사용 경로에서 압축 해제 비용이 없도록 메모리 계층은 원본 그대로, 디스크 계층만 batch.storage.codec으로 압축합니다.
+ * 디스크 파일은 매직 넘버와 형식 버전으로 시작하며, 헤더가 없거나 버전이 다른 파일(이전 형식)은 캐시 미스로 취급해 다시 받아 덮어씁니다.
+ */
+@Slf4j
+@Service
+public class PageResponseCache {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    // 디스크 파일 헤더 ("PGRC" + 형식 버전) - 기록 형식이 바뀌면 버전을 올림
+    private static final int FILE_MAGIC = 0x50475243;
+    private static final int FILE_VERSION = 1;
+
+    // 조건부 요청 캐시 사용 여부
+    @Value("${batch.api.cache.enabled:false}")
+    private boolean enabled;
+
+    // 메모리 계층에 보관할 본문 바이트 합계 상한
+    @Value("${batch.api.cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${batch.api.cache.disk.enabled:false}")
+    private boolean diskEnabled;
+
+    @Value("${batch.api.cache.disk.dir:./data/response-cache}")
+    private String diskDir;
+
+    // 디스크 계층 본문 압축 방식 (none | deflate | gzip)
+    @Value("${batch.storage.codec:none}")
+    private String storageCodec;
+
+    // 접근 순서(accessOrder) 기준 LRU - 모든 접근은 this로 동기화
+    private final LinkedHashMap<String, CachedPage> memory = new LinkedHashMap<>(256, 0.75f, true);
+    private long memoryBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 보관 중인 응답을 찾습니다. 메모리에 없으면 디스크 계층에서 읽어 메모리로 올립니다.
+     */
+    public CachedPage lookup(String url) {
+        if (!enabled) {
+            return null;
+        }
+
+        synchronized (this) {
+            CachedPage page = memory.get(url);
+            if (page != null) {
+                return page;
+            }
+        }
+
+        CachedPage page = diskEnabled ? readFromDisk(url) : null;
+        if (page != null) {
+            diskHits.incrementAndGet();
+            putInMemory(url, page);
+        }
+        return page;
+    }
+
+    /**
+     * 200 응답을 보관합니다. 검증자가 하나도 없으면 조건부 요청을 보낼 수 없으므로 보관하지 않습니다.
+     */
+    public void store(String url, String etag, String lastModified, byte[] body) {
+        if (!enabled) {
+            return;
+        }
+        misses.incrementAndGet();
+        if (etag == null && lastModified == null) {
+            return;
+        }
+
+        CachedPage page = new CachedPage(etag, lastModified, body);
+        putInMemory(url, page);
+        if (diskEnabled) {
+            writeToDisk(url, page);
+        }
+    }
+
+    /**
+     * 304 응답으로 보관한 본문을 재사용한 경우 호출합니다.
+     */
+    public void onNotModified() {
+        hits.incrementAndGet();
+    }
+
+    public synchronized ResponseCacheVo getStatus() {
+        return ResponseCacheVo.builder()
+                .enabled(enabled)
+                .entries(memory.size())
+                .bytes(memoryBytes)
+                .maxBytes(maxBytes)
+                .hits(hits.get())
+                .misses(misses.get())
+                .diskHits(diskHits.get())
+                .evictions(evictions.get())
+                .diskEnabled(diskEnabled)
+                .build();
+    }
+
+    private synchronized void putInMemory(String url, CachedPage page) {
+        // 상한보다 큰 본문은 메모리에 올리지 않음 (디스크 계층에만 보관)
+        if (page.body().length > maxBytes) {
+            return;
+        }
+
+        CachedPage previous = memory.put(url, page);
+        if (previous != null) {
+            memoryBytes -= previous.body().length;
+        }
+        memoryBytes += page.body().length;
+
+        Iterator<Map.Entry<String, CachedPage>> eldest = memory.entrySet().iterator();
+        while (memoryBytes > maxBytes && eldest.hasNext()) {
+            memoryBytes -= eldest.next().getValue().body().length;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private CachedPage readFromDisk(String url) {
+        Path file = fileOf(url);
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                log.warn("Cached response {} has no format header (old or foreign file) - ignoring it", file);
+                return null;
+            }
+            int version = in.readUnsignedByte();
+            if (version != FILE_VERSION) {
+                log.warn("Cached response {} has unsupported format version {} (expected {}) - ignoring it",
+                        file, version, FILE_VERSION);
+                return null;
+            }
+            // 파일명은 URL 해시이므로 충돌 여부를 저장된 URL로 확인
+            if (!url.equals(in.readUTF())) {
+                return null;
+            }
+            StorageCodec codec = StorageCodec.fromId(in.readUnsignedByte());
+            String etag = emptyToNull(in.readUTF());
+            String lastModified = emptyToNull(in.readUTF());
+            byte[] stored = new byte[in.readInt()];
+            in.readFully(stored);
+            byte[] body = codec == StorageCodec.NONE
+                    ? stored
+                    : codec.decode(new ByteArrayInputStream(stored)).readAllBytes();
+            return new CachedPage(etag, lastModified, body);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to read cached response {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String url, CachedPage page) {
+        Path file = fileOf(url);
+        Path temp = file.resolveSibling(file.getFileName() + "." + Thread.currentThread().threadId() + ".tmp");
+
+        try {
+            StorageCodec codec = StorageCodec.of(storageCodec);
+            byte[] stored = codec.encode(page.body());
+            Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeByte(FILE_VERSION);
+                out.writeUTF(url);
+                out.writeByte(codec.id());
+                out.writeUTF(page.etag() != null ? page.etag() : "");
+                out.writeUTF(page.lastModified() != null ? page.lastModified() : "");
+                out.writeInt(stored.length);
+                out.write(stored);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | IllegalArgumentException e) {
+            // 디스크 계층 실패는 캐시 미스로만 이어지므로 로그만 남김
+            log.warn("Failed to write cached response {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path fileOf(String url) {
+        long h = FNV_OFFSET;
+        for (byte b : url.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= FNV_PRIME;
+        }
+        return Paths.get(diskDir, Long.toHexString(h) + ".page");
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 보관된 응답 - 본문 배열은 공유되므로 읽기만 해야 합니다.
+     */
+    public record CachedPage(String etag, String lastModified, byte[] body) {}
+}
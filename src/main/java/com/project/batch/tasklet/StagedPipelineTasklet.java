@@ -0,0 +1,204 @@
+package com.project.batch.tasklet;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 → 가공 → 쓰기를 별도 단계로 분리해 겹쳐서 실행하는 Tasklet입니다.
+ * <p>
+ * - Fetch 단계: fetchExecutor의 스레드들이 Reader에서 읽은 아이템마다 가공 작업을 processingExecutor에 제출
+ * - Process 단계: processingExecutor의 Worker 풀이 아이템을 동시에 가공
+ * - Write 단계: Step 스레드가 제출 순서대로 결과를 받아 chunkSize개씩 Writer에 전달
+ * <p>
+ * 단계 사이는 크기가 제한된 큐(bufferCapacity)로 연결되어, 쓰기가 밀리면 읽기도 그만큼만 앞서 나갑니다(배압).
+ * execute() 한 번이 청크 하나를 쓰고 CONTINUABLE을 반환하므로, 커밋 경계는 Chunk Step과 같이 청크마다 하나의 트랜잭션입니다.
+ * Reader가 쓰기보다 앞서 있으므로 재시작 위치는 저장하지 않습니다. 이 Tasklet을 쓰는 Job은 재시작을 막아야 하며(preventRestart),
+ * 큐와 실행 상태를 인스턴스에 보관하므로 Step 실행마다 새 인스턴스(@StepScope)를 사용해야 합니다.
+ */
+@Slf4j
+public class StagedPipelineTasklet<I, O> implements Tasklet, StepExecutionListener {
+
+    // Fetch 단계 종료 표시 (마지막 Fetch 스레드가 큐에 넣음)
+    private static final CompletableFuture<Object> END_OF_STREAM = CompletableFuture.completedFuture(null);
+
+    private final ItemReader<I> reader;
+    private final ItemProcessor<I, O> processor;
+    private final ItemWriter<O> writer;
+    private final TaskExecutor fetchExecutor;
+    private final TaskExecutor processingExecutor;
+    private final int chunkSize;
+    private final int bufferCapacity;
+    private final int fetchThreads;
+
+    private StepExecution stepExecution;
+    private BlockingQueue<CompletableFuture<?>> buffer;
+    private final AtomicInteger activeFetchers = new AtomicInteger();
+    private volatile boolean running;
+    private volatile Throwable fetchError;
+
+    public StagedPipelineTasklet(ItemReader<I> reader, ItemProcessor<I, O> processor, ItemWriter<O> writer,
+                                 TaskExecutor fetchExecutor, TaskExecutor processingExecutor,
+                                 int chunkSize, int bufferCapacity, int fetchThreads) {
+        this.reader = reader;
+        this.processor = processor;
+        this.writer = writer;
+        this.fetchExecutor = fetchExecutor;
+        this.processingExecutor = processingExecutor;
+        this.chunkSize = chunkSize;
+        this.bufferCapacity = Math.max(bufferCapacity, chunkSize);
+        this.fetchThreads = Math.max(1, fetchThreads);
+    }
+
+    /**
+     * Step 시작 시 Fetch 단계를 기동합니다. (TaskletStep이 Listener로 자동 등록)
+     */
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        fetchError = null;
+        running = true;
+        activeFetchers.set(fetchThreads);
+
+        for (int i = 0; i < fetchThreads; i++) {
+            fetchExecutor.execute(this::fetchStage);
+        }
+        log.info("Pipeline started: chunkSize={}, bufferCapacity={}, fetchThreads={}",
+                chunkSize, bufferCapacity, fetchThreads);
+    }
+
+    /**
+     * Write 단계 - 청크 하나를 모아 쓰고, 스트림이 끝났으면 FINISHED를 반환합니다.
+     */
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Chunk<O> chunk = new Chunk<>();
+        boolean finished = false;
+
+        while (chunk.size() < chunkSize) {
+            CompletableFuture<?> next = buffer.take();
+            if (next == END_OF_STREAM) {
+                finished = true;
+                break;
+            }
+
+            contribution.incrementReadCount();
+            O item = awaitResult(next);
+            if (item == null) {
+                contribution.incrementFilterCount(1);
+            } else {
+                chunk.add(item);
+            }
+        }
+
+        if (finished && fetchError != null) {
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR,
+                    "Pipeline fetch stage failed: " + fetchError.getMessage(), fetchError);
+        }
+
+        if (!chunk.isEmpty()) {
+            writer.write(chunk);
+            contribution.incrementWriteCount(chunk.size());
+        }
+
+        return finished ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * Step 종료(성공/실패 모두) 시 남은 단계를 멈추고 대기 중인 가공 작업을 취소합니다.
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        running = false;
+
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        buffer.drainTo(pending);
+        pending.forEach(future -> future.cancel(true));
+
+        log.info("Pipeline stopped: {} pending items discarded", pending.size());
+        return null;
+    }
+
+    private void fetchStage() {
+        // StepScope Reader를 Step 스레드가 아닌 곳에서 사용하므로 Step 컨텍스트를 등록
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            I item;
+            while (running && (item = reader.read()) != null) {
+                I input = item;
+                enqueue(CompletableFuture.supplyAsync(() -> process(input), processingExecutor));
+            }
+        } catch (Exception e) {
+            log.error("Pipeline fetch stage failed: {}", e.getMessage(), e);
+            fetchError = e;
+        } finally {
+            StepSynchronizationManager.close();
+            if (activeFetchers.decrementAndGet() == 0) {
+                enqueue(END_OF_STREAM);
+            }
+        }
+    }
+
+    /**
+     * 큐가 가득 차면 빈 자리가 날 때까지 대기 (Step이 종료되면 포기)
+     */
+    private void enqueue(CompletableFuture<?> future) {
+        try {
+            while (running) {
+                if (buffer.offer(future, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        future.cancel(true);
+    }
+
+    private O process(I item) {
+        // Processor가 Step 컨텍스트를 사용할 수 있도록 Worker 스레드에도 등록 (AsyncItemProcessor와 동일)
+        StepSynchronizationManager.register(stepExecution);
+        try {
+            return processor.process(item);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private O awaitResult(CompletableFuture<?> future) throws Exception {
+        try {
+            return (O) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.project.batch.tasklet;
+
+import com.project.batch.vo.UserPostStatsVo;
+import com.project.batch.writer.UserAggregationWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * 파티션들이 내보낸 정렬된 런 파일을 k-way 병합해 사용자별 최종 통계를 TB_USER_POST_STATS에 저장합니다.
+ * <p>
+ * 각 런 파일은 userId 순으로 정렬되어 있으므로 파일마다 현재 레코드 하나만 읽어 두고,
+ * 가장 작은 userId를 가진 레코드들을 합쳐 내보냅니다. 메모리 사용량은 런 파일 수와 저장 배치 크기에만 비례합니다.
+ */
+@Slf4j
+public class UserStatsMergeTasklet implements Tasklet {
+
+    private static final String MERGE_SQL =
+            "MERGE INTO tb_user_post_stats (user_id, post_count, total_body_length, min_body_length, max_body_length, " +
+            "avg_body_length, update_date) KEY (user_id) VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String spillDir;
+    private final int batchSize;
+
+    public UserStatsMergeTasklet(JdbcTemplate jdbcTemplate, String spillDir, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.spillDir = spillDir;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Path runDirectory = UserAggregationWriter.runDirectoryOf(spillDir,
+                chunkContext.getStepContext().getStepExecution().getJobExecutionId());
+        if (!Files.isDirectory(runDirectory)) {
+            log.info("No aggregation runs found in {}", runDirectory);
+            return RepeatStatus.FINISHED;
+        }
+
+        List<RunCursor> cursors = openRuns(runDirectory);
+        PriorityQueue<RunCursor> heap = new PriorityQueue<>(Comparator.comparingLong(RunCursor::userId));
+        try {
+            for (RunCursor cursor : cursors) {
+                if (cursor.advance()) {
+                    heap.add(cursor);
+                }
+            }
+
+            List<UserPostStatsVo> batch = new ArrayList<>(batchSize);
+            long users = 0;
+            while (!heap.isEmpty()) {
+                RunCursor head = heap.poll();
+                UserPostStatsVo stats = head.toStats();
+                if (head.advance()) {
+                    heap.add(head);
+                }
+
+                // 같은 userId를 가진 다른 런의 레코드를 모두 합침
+                while (!heap.isEmpty() && heap.peek().userId() == stats.getUserId()) {
+                    RunCursor same = heap.poll();
+                    same.mergeInto(stats);
+                    if (same.advance()) {
+                        heap.add(same);
+                    }
+                }
+
+                batch.add(stats);
+                users++;
+                if (batch.size() >= batchSize) {
+                    save(batch);
+                }
+            }
+            save(batch);
+
+            contribution.incrementWriteCount(users);
+            log.info("Merged {} run files into stats of {} users", cursors.size(), users);
+        } finally {
+            cursors.forEach(RunCursor::closeQuietly);
+        }
+
+        FileSystemUtils.deleteRecursively(runDirectory);
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<RunCursor> openRuns(Path runDirectory) throws IOException {
+        List<RunCursor> cursors = new ArrayList<>();
+        try (Stream<Path> files = Files.list(runDirectory)) {
+            for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".bin"))::iterator) {
+                cursors.add(new RunCursor(new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))));
+            }
+        }
+        return cursors;
+    }
+
+    private void save(List<UserPostStatsVo> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MERGE_SQL, batch, batch.size(), (ps, stats) -> {
+            ps.setLong(1, stats.getUserId());
+            ps.setLong(2, stats.getPostCount());
+            ps.setLong(3, stats.getTotalBodyLength());
+            ps.setLong(4, stats.getMinBodyLength());
+            ps.setLong(5, stats.getMaxBodyLength());
+            ps.setDouble(6, stats.getAvgBodyLength());
+        });
+        batch.clear();
+    }
+
+    /**
+     * 런 파일 하나의 현재 레코드
+     */
+    private static final class RunCursor implements Closeable {
+        private final DataInputStream in;
+        private long userId;
+        private long count;
+        private long sum;
+        private long min;
+        private long max;
+
+        private RunCursor(DataInputStream in) {
+            this.in = in;
+        }
+
+        long userId() {
+            return userId;
+        }
+
+        boolean advance() throws IOException {
+            try {
+                userId = in.readLong();
+            } catch (EOFException e) {
+                return false;
+            }
+            count = in.readLong();
+            sum = in.readLong();
+            min = in.readLong();
+            max = in.readLong();
+            return true;
+        }
+
+        UserPostStatsVo toStats() {
+            return new UserPostStatsVo(userId, count, sum, min, max);
+        }
+
+        void mergeInto(UserPostStatsVo stats) {
+            stats.setPostCount(stats.getPostCount() + count);
+            stats.setTotalBodyLength(stats.getTotalBodyLength() + sum);
+            stats.setMinBodyLength(Math.min(stats.getMinBodyLength(), min));
+            stats.setMaxBodyLength(Math.max(stats.getMaxBodyLength(), max));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // 읽기 전용 스트림 - 닫기 실패는 무시
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.batch.util;
+
+import com.project.batch.model.Post;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * ColumnarPostWriter가 만든 세그먼트 하나를 읽기 전용으로 매핑해 행 단위로 접근합니다.
+ * <p>
+ * 세그먼트 구성 (모두 행 순서):
+ * - ids.col, user_ids.col : 행마다 long 하나
+ * - title.off, body.off   : 행마다 해당 행 텍스트의 끝 오프셋(long) - 시작은 이전 행의 끝
+ * - title.dat, body.dat   : UTF-8 텍스트를 이어 붙인 바이트
+ * - rows.cnt              : 커밋된 행 수(long) - Writer가 청크 커밋과 세그먼트 종료 때 갱신
+ * <p>
+ * 컬럼 파일은 미리 크게 할당되므로 비정상 종료 후에는 파일 길이가 실제 행 수와 다릅니다.
+ * 행 수는 항상 rows.cnt에서 읽으며, 파일이 없으면 커밋된 행이 없는 세그먼트로 봅니다.
+ * <p>
+ * id/userId는 매핑된 버퍼에서 바로 읽고, 텍스트는 복사 없는 ByteBuffer 슬라이스로 제공하므로
+ * JSON 파싱이나 객체 생성 없이 전체 행을 훑을 수 있습니다. Post가 필요할 때만 {@link #toPost(int)}로 디코딩합니다.
+ */
+public class ColumnarSegment {
+
+    public static final String IDS = "ids.col";
+    public static final String USER_IDS = "user_ids.col";
+    public static final String TITLE_OFFSETS = "title.off";
+    public static final String TITLE_DATA = "title.dat";
+    public static final String BODY_OFFSETS = "body.off";
+    public static final String BODY_DATA = "body.dat";
+    public static final String ROW_COUNT = "rows.cnt";
+
+    // null을 표현하는 long 값
+    public static final long NULL_LONG = Long.MIN_VALUE;
+
+    private final ByteBuffer ids;
+    private final ByteBuffer userIds;
+    private final ByteBuffer titleOffsets;
+    private final ByteBuffer titleData;
+    private final ByteBuffer bodyOffsets;
+    private final ByteBuffer bodyData;
+    private final int rowCount;
+
+    private ColumnarSegment(Path directory) throws IOException {
+        this.ids = MappedColumnFile.mapReadOnly(directory.resolve(IDS));
+        this.userIds = MappedColumnFile.mapReadOnly(directory.resolve(USER_IDS));
+        this.titleOffsets = MappedColumnFile.mapReadOnly(directory.resolve(TITLE_OFFSETS));
+        this.titleData = MappedColumnFile.mapReadOnly(directory.resolve(TITLE_DATA));
+        this.bodyOffsets = MappedColumnFile.mapReadOnly(directory.resolve(BODY_OFFSETS));
+        this.bodyData = MappedColumnFile.mapReadOnly(directory.resolve(BODY_DATA));
+        this.rowCount = (int) Math.min(readRowCount(directory), ids.capacity() / Long.BYTES);
+    }
+
+    public static ColumnarSegment open(Path directory) throws IOException {
+        return new ColumnarSegment(directory);
+    }
+
+    /**
+     * 커밋된 행 수를 기록합니다. 쓰는 도중 중단되어도 이전 값이 남도록 임시 파일을 원자적으로 교체합니다.
+     */
+    public static void writeRowCount(Path directory, long rows) throws IOException {
+        Path file = directory.resolve(ROW_COUNT);
+        Path temp = directory.resolve(ROW_COUNT + ".tmp");
+        Files.write(temp, ByteBuffer.allocate(Long.BYTES).putLong(0, rows).array());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long readRowCount(Path directory) throws IOException {
+        Path file = directory.resolve(ROW_COUNT);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length != Long.BYTES) {
+            throw new IOException("Corrupted row count file: " + file);
+        }
+        return ByteBuffer.wrap(bytes).getLong();
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public long id(int row) {
+        return ids.getLong(row * Long.BYTES);
+    }
+
+    public long userId(int row) {
+        return userIds.getLong(row * Long.BYTES);
+    }
+
+    /**
+     * 제목 UTF-8 바이트 (복사 없는 읽기 전용 슬라이스)
+     */
+    public ByteBuffer title(int row) {
+        return slice(titleOffsets, titleData, row);
+    }
+
+    /**
+     * 본문 UTF-8 바이트 (복사 없는 읽기 전용 슬라이스)
+     */
+    public ByteBuffer body(int row) {
+        return slice(bodyOffsets, bodyData, row);
+    }
+
+    public Post toPost(int row) {
+        long id = id(row);
+        long userId = userId(row);
+        return Post.builder()
+                .id(id != NULL_LONG ? id : null)
+                .userId(userId != NULL_LONG ? userId : null)
+                .title(StandardCharsets.UTF_8.decode(title(row)).toString())
+                .body(StandardCharsets.UTF_8.decode(body(row)).toString())
+                .build();
+    }
+
+    private static ByteBuffer slice(ByteBuffer offsets, ByteBuffer data, int row) {
+        int start = row == 0 ? 0 : (int) offsets.getLong((row - 1) * Long.BYTES);
+        int end = (int) offsets.getLong(row * Long.BYTES);
+        return data.slice(start, end - start).asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,80 @@
+package com.project.batch.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 스레드가 동시에 사용하는 long ID 집합 (비트맵).
+ * <p>
+ * 0 이상 maxId 미만의 ID는 ID당 1비트로 표현하며, 65,536개 ID 단위(8KB) 블록을 처음 사용할 때만 할당합니다.
+ * 비트 설정은 CAS로 처리해 잠금이나 박싱이 없습니다. 범위를 벗어난 ID(음수, 큰 값)는 LongLongHashMap에 동기화해 보관합니다.
+ */
+public class ConcurrentLongBitmap {
+
+    private static final int BLOCK_SHIFT = 16;                       // 블록당 65,536비트
+    private static final int WORDS_PER_BLOCK = (1 << BLOCK_SHIFT) / Long.SIZE;
+
+    private final long maxId;
+    private final AtomicReferenceArray<AtomicLongArray> blocks;
+    private final LongLongHashMap overflow = new LongLongHashMap(16);
+
+    public ConcurrentLongBitmap(long maxId) {
+        int blockCount = (int) Math.max(1, (maxId + (1L << BLOCK_SHIFT) - 1) >>> BLOCK_SHIFT);
+        this.maxId = (long) blockCount << BLOCK_SHIFT;
+        this.blocks = new AtomicReferenceArray<>(blockCount);
+    }
+
+    /**
+     * @return 처음 추가된 ID면 true, 이미 있던 ID면 false
+     */
+    public boolean add(long id) {
+        if (id < 0 || id >= maxId) {
+            synchronized (overflow) {
+                if (overflow.containsKey(id)) {
+                    return false;
+                }
+                overflow.put(id, 1L);
+                return true;
+            }
+        }
+
+        AtomicLongArray block = blockOf((int) (id >>> BLOCK_SHIFT));
+        int bit = (int) (id & ((1 << BLOCK_SHIFT) - 1));
+        int word = bit >>> 6;
+        long mask = 1L << (bit & 63);
+
+        while (true) {
+            long current = block.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (block.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(long id) {
+        if (id < 0 || id >= maxId) {
+            synchronized (overflow) {
+                return overflow.containsKey(id);
+            }
+        }
+
+        AtomicLongArray block = blocks.get((int) (id >>> BLOCK_SHIFT));
+        if (block == null) {
+            return false;
+        }
+        int bit = (int) (id & ((1 << BLOCK_SHIFT) - 1));
+        return (block.get(bit >>> 6) & (1L << (bit & 63))) != 0;
+    }
+
+    private AtomicLongArray blockOf(int index) {
+        AtomicLongArray block = blocks.get(index);
+        if (block == null) {
+            blocks.compareAndSet(index, null, new AtomicLongArray(WORDS_PER_BLOCK));
+            block = blocks.get(index);
+        }
+        return block;
+    }
+}
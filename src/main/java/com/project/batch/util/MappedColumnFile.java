@@ -0,0 +1,115 @@
+package com.project.batch.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 메모리 매핑 기반 추가 전용(append-only) 컬럼 파일입니다.
+ * <p>
+ * 파일을 mappedSize만큼 매핑해 두고 값을 버퍼에 바로 기록하며, 공간이 모자라면 두 배로 다시 매핑합니다.
+ * 닫을 때 실제로 기록한 위치까지 잘라내므로 파일 크기 = 데이터 크기입니다.
+ * 매핑 하나는 2GB를 넘을 수 없으므로 호출 측은 {@link #remaining()}을 보고 세그먼트를 나눠야 합니다.
+ */
+public class MappedColumnFile implements Closeable {
+
+    public static final long MAX_MAPPED_SIZE = Integer.MAX_VALUE;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long mappedSize;
+    private long position;
+
+    private MappedColumnFile(FileChannel channel, long initialSize, long position) throws IOException {
+        this.channel = channel;
+        this.position = position;
+        map(Math.max(initialSize, position));
+    }
+
+    /**
+     * @param position 이어서 기록할 위치 (새 파일이면 0, 재시작이면 마지막 커밋 위치 - 그 이후 데이터는 덮어씀)
+     */
+    public static MappedColumnFile open(Path file, long initialSize, long position) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new MappedColumnFile(channel, initialSize, position);
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public long remaining() {
+        return MAX_MAPPED_SIZE - position;
+    }
+
+    public void putLong(long value) throws IOException {
+        ensureCapacity(Long.BYTES);
+        buffer.putLong((int) position, value);
+        position += Long.BYTES;
+    }
+
+    public void put(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        buffer.put((int) position, bytes);
+        position += bytes.length;
+    }
+
+    public long getLong(long offset) {
+        return buffer.getLong((int) offset);
+    }
+
+    /**
+     * 이미 기록한 구간을 복사 없이 읽기 전용으로 돌려줍니다. (다시 매핑되어도 반환한 버퍼는 유효)
+     */
+    public ByteBuffer slice(long offset, int length) {
+        return buffer.slice((int) offset, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * 기록한 내용을 디스크에 반영합니다. (청크 커밋 시점)
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        buffer = null;
+        channel.truncate(position);
+        channel.close();
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        if (position + bytes <= mappedSize) {
+            return;
+        }
+        long required = position + bytes;
+        if (required > MAX_MAPPED_SIZE) {
+            throw new IOException("Column file exceeds maximum mapped size: " + required);
+        }
+        map(Math.min(MAX_MAPPED_SIZE, Math.max(mappedSize * 2, required)));
+    }
+
+    private void map(long size) throws IOException {
+        if (buffer != null) {
+            buffer.force();
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mappedSize = size;
+    }
+
+    /**
+     * 읽기 전용으로 파일 전체를 매핑합니다. (복사 없이 컬럼 값을 읽을 때 사용)
+     */
+    public static ByteBuffer mapReadOnly(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.batch.util;
+
+import com.project.batch.model.Post;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 임시 파일용 Post 이진 직렬화 (JSON 없이 고정 순서의 필드를 그대로 기록).
+ * <p>
+ * 레코드: id(long), userId(long), title, body - 문자열은 UTF-8 바이트 길이(int, null이면 -1) + 바이트
+ */
+public final class PostRecordCodec {
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private PostRecordCodec() {}
+
+    public static void write(DataOutput out, Post post) throws IOException {
+        out.writeLong(post.getId() != null ? post.getId() : NULL_LONG);
+        out.writeLong(post.getUserId() != null ? post.getUserId() : NULL_LONG);
+        writeString(out, post.getTitle());
+        writeString(out, post.getBody());
+    }
+
+    public static Post read(DataInput in) throws IOException {
+        long id = in.readLong();
+        long userId = in.readLong();
+        return Post.builder()
+                .id(id != NULL_LONG ? id : null)
+                .userId(userId != NULL_LONG ? userId : null)
+                .title(readString(in))
+                .body(readString(in))
+                .build();
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
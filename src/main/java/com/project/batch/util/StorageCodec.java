@@ -0,0 +1,86 @@
+package com.project.batch.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 로컬에 보관하는 페이지 본문(녹화 보관소, 응답 캐시 디스크 계층)의 압축 방식입니다.
+ * <p>
+ * 압축은 기록할 때 한 번만 하고(BEST_SPEED), 읽을 때는 스트림으로 풀면서 바로 디코딩하므로 중간 복사본이 생기지 않습니다.
+ * 기록마다 {@link #id()}를 함께 저장해 두므로 설정을 바꿔도 이전에 저장한 데이터를 그대로 읽을 수 있습니다.
+ */
+public enum StorageCodec {
+
+    NONE(0),
+    DEFLATE(1),
+    GZIP(2);
+
+    private final int id;
+
+    StorageCodec(int id) {
+        this.id = id;
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public static StorageCodec of(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+
+    public static StorageCodec fromId(int id) {
+        for (StorageCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("Unknown storage codec id: " + id);
+    }
+
+    public byte[] encode(byte[] raw) throws IOException {
+        return switch (this) {
+            case NONE -> raw;
+            case DEFLATE -> deflate(raw);
+            case GZIP -> gzip(raw);
+        };
+    }
+
+    public InputStream decode(InputStream encoded) throws IOException {
+        return switch (this) {
+            case NONE -> encoded;
+            case DEFLATE -> new InflaterInputStream(encoded);
+            case GZIP -> new GZIPInputStream(encoded);
+        };
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.batch.util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * 사용자 ID별 Post 통계(건수, 본문 길이 합/최소/최대) 누적기입니다.
+ * <p>
+ * 키와 통계를 병렬 long 배열에 저장하는 오픈 어드레싱 구조라 키마다 객체가 생기지 않습니다.
+ * 키 수가 한도를 넘으면 호출 측이 {@link #spill(Path)}로 키 순서대로 정렬된 런(run) 파일을 쓰고 비웁니다.
+ * 스레드 안전하지 않으므로 파티션(Step)마다 하나씩 사용합니다.
+ */
+public class UserStatsAccumulator {
+
+    // 런 파일 레코드: userId, count, sum, min, max (long 5개)
+    public static final int RECORD_BYTES = Long.BYTES * 5;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] counts;
+    private long[] sums;
+    private long[] mins;
+    private long[] maxs;
+    private int mask;
+    private int size;
+
+    public UserStatsAccumulator(int expectedKeys) {
+        allocate(Integer.highestOneBit(Math.max(expectedKeys, 8) * 2 - 1) << 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(long userId, long bodyLength) {
+        int index = indexOf(userId);
+        if (keys[index] == EMPTY) {
+            keys[index] = userId;
+            counts[index] = 1;
+            sums[index] = bodyLength;
+            mins[index] = bodyLength;
+            maxs[index] = bodyLength;
+            if (++size > keys.length / 2) {
+                rehash();
+            }
+            return;
+        }
+        counts[index]++;
+        sums[index] += bodyLength;
+        mins[index] = Math.min(mins[index], bodyLength);
+        maxs[index] = Math.max(maxs[index], bodyLength);
+    }
+
+    /**
+     * 누적된 통계를 userId 순으로 정렬해 런 파일로 쓰고 비웁니다.
+     *
+     * @return 기록한 키 수
+     */
+    public int spill(Path runFile) throws IOException {
+        int[] order = sortedSlots();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+            for (int slot : order) {
+                out.writeLong(keys[slot]);
+                out.writeLong(counts[slot]);
+                out.writeLong(sums[slot]);
+                out.writeLong(mins[slot]);
+                out.writeLong(maxs[slot]);
+            }
+        }
+        int written = order.length;
+        clear();
+        return written;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    // 사용 중인 슬롯을 키 순서로 정렬 (키를 정렬한 뒤 슬롯을 다시 찾음 - 박싱 없는 정렬)
+    private int[] sortedSlots() {
+        long[] sortedKeys = new long[size];
+        int n = 0;
+        for (long key : keys) {
+            if (key != EMPTY) {
+                sortedKeys[n++] = key;
+            }
+        }
+        Arrays.sort(sortedKeys);
+
+        int[] slots = new int[n];
+        for (int i = 0; i < n; i++) {
+            slots[i] = indexOf(sortedKeys[i]);
+        }
+        return slots;
+    }
+
+    private int indexOf(long key) {
+        int index = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        long[] oldSums = sums;
+        long[] oldMins = mins;
+        long[] oldMaxs = maxs;
+        allocate(oldKeys.length << 1);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                counts[index] = oldCounts[i];
+                sums[index] = oldSums[i];
+                mins[index] = oldMins[i];
+                maxs[index] = oldMaxs[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        counts = new long[capacity];
+        sums = new long[capacity];
+        mins = new long[capacity];
+        maxs = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+        size = 0;
+    }
+}
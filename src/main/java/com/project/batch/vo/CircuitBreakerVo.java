@@ -0,0 +1,21 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CircuitBreakerVo {
+
+    private boolean enabled;
+    private String state;
+    private int consecutiveFailures;
+    private int failureThreshold;
+    private long rejectedCalls;
+    private String openedAt;
+    private long openDurationMs;
+}
@@ -0,0 +1,21 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyLimitVo {
+
+    private boolean enabled;
+    private int limit;
+    private int inFlight;
+    private int minLimit;
+    private int maxLimit;
+    private long baselineLatencyMs;
+    private long lastLatencyMs;
+}
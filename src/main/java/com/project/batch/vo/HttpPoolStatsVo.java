@@ -0,0 +1,24 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HttpPoolStatsVo {
+
+    private String engine;
+    private int leased;
+    private int pending;
+    private int available;
+    private int max;
+    private int gridSize;
+
+    public boolean isSaturated() {
+        return pending > 0 || (max > 0 && leased >= max);
+    }
+}
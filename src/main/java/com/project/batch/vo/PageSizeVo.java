@@ -0,0 +1,21 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageSizeVo {
+
+    private boolean enabled;
+    private int size;
+    private int minSize;
+    private int maxSize;
+    private long latencyPerItemMicros;
+    private long bytesPerItem;
+    private long samples;
+}
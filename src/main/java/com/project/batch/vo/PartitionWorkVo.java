@@ -0,0 +1,27 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartitionWorkVo {
+
+    public static final String STATUS_READY = "READY";
+    public static final String STATUS_CLAIMED = "CLAIMED";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    private Long id;
+    private String queueKey;
+    private Integer startPage;
+    private Integer endPage;
+    private String status;
+    private Integer claimedBy;
+    private String createDate;
+    private String updateDate;
+}
@@ -0,0 +1,23 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCacheVo {
+
+    private boolean enabled;
+    private int entries;
+    private long bytes;
+    private long maxBytes;
+    private long hits;
+    private long misses;
+    private long diskHits;
+    private long evictions;
+    private boolean diskEnabled;
+}
@@ -0,0 +1,26 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SourceMetadataVo {
+
+    public static final String METHOD_HEADER = "header";
+    public static final String METHOD_PROBE = "probe";
+    public static final String METHOD_DEFAULT = "default";
+
+    private long totalItems;
+    private int totalPages;
+    private int pageSize;
+    private String method;
+
+    public boolean isEmpty() {
+        return totalPages == 0;
+    }
+}
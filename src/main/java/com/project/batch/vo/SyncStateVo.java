@@ -0,0 +1,18 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncStateVo {
+    private String jobName;
+    private Long highWaterMark;      // 마지막으로 완료된 실행까지 처리한 최대 Post ID
+    private Integer runsSinceFull;   // 마지막 전체 동기화 이후 완료된 증분 실행 수
+    private String lastFullSyncDate;
+    private String updateDate;
+}
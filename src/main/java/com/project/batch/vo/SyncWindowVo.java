@@ -0,0 +1,27 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 번의 Job 실행에서 읽을 범위 - sinceId보다 큰 ID만 처리하고, fromPage부터 요청합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncWindowVo {
+    private long sinceId;
+    private int fromPage;
+    private boolean fullSync;
+
+    public static SyncWindowVo full() {
+        return new SyncWindowVo(0L, 1, true);
+    }
+
+    public boolean accepts(Long postId) {
+        return postId == null || postId > sinceId;
+    }
+}
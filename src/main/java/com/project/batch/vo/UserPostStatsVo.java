@@ -0,0 +1,22 @@
+package com.project.batch.vo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPostStatsVo {
+    private Long userId;
+    private Long postCount;
+    private Long totalBodyLength;
+    private Long minBodyLength;
+    private Long maxBodyLength;
+
+    public double getAvgBodyLength() {
+        return postCount != null && postCount > 0 ? (double) totalBodyLength / postCount : 0.0;
+    }
+}
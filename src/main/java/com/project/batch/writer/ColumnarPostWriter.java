@@ -0,0 +1,196 @@
+package com.project.batch.writer;
+
+import com.project.batch.model.Post;
+import com.project.batch.util.ColumnarSegment;
+import com.project.batch.util.MappedColumnFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 가공된 Post를 컬럼 단위로 메모리 매핑 세그먼트 파일에 기록하는 Writer입니다. (형식은 ColumnarSegment 참고)
+ * <p>
+ * Step(파티션)마다 자기 디렉터리에만 쓰므로 파티션 간 경합이 없고, segment-rows개마다 새 세그먼트로 넘어갑니다.
+ * (멀티스레드 Step에서도 쓸 수 있도록 write/update는 동기화)
+ * 청크 커밋(update) 시점의 세그먼트/행 수를 저장해 두었다가 재시작하면 그 위치까지 잘라내고 이어서 기록합니다.
+ * 같은 시점에 세그먼트의 rows.cnt도 갱신하므로, 비정상 종료된 세그먼트도 커밋된 행까지만 읽힙니다.
+ * 기록된 결과는 ColumnarPostReader 또는 ColumnarSegment로 JSON/객체 디코딩 없이 다시 읽을 수 있습니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class ColumnarPostWriter implements ItemStreamWriter<Post> {
+
+    private static final String KEY_DIR = "columnarWriter.dir";
+    private static final String KEY_SEGMENT = "columnarWriter.segment";
+    private static final String KEY_ROWS = "columnarWriter.rows";
+
+    // 텍스트 컬럼을 처음 매핑할 크기 (부족하면 두 배씩 증가)
+    private static final long INITIAL_TEXT_SIZE = 4L * 1024 * 1024;
+
+    @Value("${batch.writer.columnar.dir:./data/columnar}")
+    private String baseDir;
+
+    // 세그먼트 하나에 담을 최대 행 수
+    @Value("${batch.writer.columnar.segment-rows:1000000}")
+    private int segmentRows;
+
+    @Value("#{stepExecution.jobExecution.jobInstance.jobName}")
+    private String jobName;
+
+    @Value("#{stepExecution.jobExecutionId}")
+    private Long jobExecutionId;
+
+    @Value("#{stepExecution.id}")
+    private Long stepExecutionId;
+
+    private Path partDirectory;
+    private Path segmentDirectory;
+    private int segment = 0;
+    private int rows = 0;
+
+    private MappedColumnFile ids;
+    private MappedColumnFile userIds;
+    private MappedColumnFile titleOffsets;
+    private MappedColumnFile titleData;
+    private MappedColumnFile bodyOffsets;
+    private MappedColumnFile bodyData;
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            if (executionContext.containsKey(KEY_DIR)) {
+                // 재시작: 마지막 커밋 시점의 세그먼트/행 수로 되돌림
+                partDirectory = Paths.get(executionContext.getString(KEY_DIR));
+                segment = executionContext.getInt(KEY_SEGMENT);
+                rows = executionContext.getInt(KEY_ROWS);
+                log.info("Columnar writer resuming {} segment {} at row {}", partDirectory, segment, rows);
+            } else {
+                partDirectory = Paths.get(baseDir, jobName + "-" + jobExecutionId, "part-" + stepExecutionId);
+                segment = 0;
+                rows = 0;
+            }
+            openSegment();
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to open columnar segment in " + partDirectory, e);
+        }
+    }
+
+    @Override
+    public synchronized void write(Chunk<? extends Post> chunk) throws Exception {
+        for (Post post : chunk) {
+            byte[] title = bytesOf(post.getTitle());
+            byte[] body = bytesOf(post.getBody());
+
+            if (rows >= segmentRows || titleData.remaining() < title.length || bodyData.remaining() < body.length) {
+                rollSegment();
+            }
+
+            ids.putLong(post.getId() != null ? post.getId() : ColumnarSegment.NULL_LONG);
+            userIds.putLong(post.getUserId() != null ? post.getUserId() : ColumnarSegment.NULL_LONG);
+            titleData.put(title);
+            titleOffsets.putLong(titleData.position());
+            bodyData.put(body);
+            bodyOffsets.putLong(bodyData.position());
+            rows++;
+        }
+    }
+
+    /**
+     * 청크 커밋 시점 - 기록한 내용을 디스크에 반영하고 재시작 위치를 저장합니다.
+     */
+    @Override
+    public synchronized void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (ids == null) {
+            return;
+        }
+        forceAll();
+        try {
+            // 컬럼 데이터를 디스크에 반영한 뒤에 행 수를 기록
+            ColumnarSegment.writeRowCount(segmentDirectory, rows);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to write row count in " + segmentDirectory, e);
+        }
+        executionContext.putString(KEY_DIR, partDirectory.toString());
+        executionContext.putInt(KEY_SEGMENT, segment);
+        executionContext.putInt(KEY_ROWS, rows);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            closeSegment();
+            log.info("Columnar writer closed {} ({} segment(s), {} rows in last segment)",
+                    partDirectory, segment + 1, rows);
+        } catch (IOException e) {
+            throw new ItemStreamException("Failed to close columnar segment in " + partDirectory, e);
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        closeSegment();
+        segment++;
+        rows = 0;
+        openSegment();
+        log.info("Columnar writer rolled to segment {} in {}", segment, partDirectory);
+    }
+
+    private void openSegment() throws IOException {
+        Path directory = partDirectory.resolve(String.format("segment-%05d", segment));
+        Files.createDirectories(directory);
+        segmentDirectory = directory;
+
+        long fixedSize = (long) segmentRows * Long.BYTES;
+        long rowBytes = (long) rows * Long.BYTES;
+        ids = MappedColumnFile.open(directory.resolve(ColumnarSegment.IDS), fixedSize, rowBytes);
+        userIds = MappedColumnFile.open(directory.resolve(ColumnarSegment.USER_IDS), fixedSize, rowBytes);
+        titleOffsets = MappedColumnFile.open(directory.resolve(ColumnarSegment.TITLE_OFFSETS), fixedSize, rowBytes);
+        bodyOffsets = MappedColumnFile.open(directory.resolve(ColumnarSegment.BODY_OFFSETS), fixedSize, rowBytes);
+
+        // 텍스트 컬럼은 마지막 커밋된 행의 끝 오프셋부터 이어서 기록
+        long titleEnd = rows == 0 ? 0 : titleOffsets.getLong(rowBytes - Long.BYTES);
+        long bodyEnd = rows == 0 ? 0 : bodyOffsets.getLong(rowBytes - Long.BYTES);
+        titleData = MappedColumnFile.open(directory.resolve(ColumnarSegment.TITLE_DATA), INITIAL_TEXT_SIZE, titleEnd);
+        bodyData = MappedColumnFile.open(directory.resolve(ColumnarSegment.BODY_DATA), INITIAL_TEXT_SIZE, bodyEnd);
+    }
+
+    private void closeSegment() throws IOException {
+        if (ids == null) {
+            return;
+        }
+        forceAll();
+        ColumnarSegment.writeRowCount(segmentDirectory, rows);
+        ids.close();
+        userIds.close();
+        titleOffsets.close();
+        titleData.close();
+        bodyOffsets.close();
+        bodyData.close();
+        ids = null;
+    }
+
+    private void forceAll() {
+        ids.force();
+        userIds.force();
+        titleOffsets.force();
+        titleData.force();
+        bodyOffsets.force();
+        bodyData.force();
+    }
+
+    // null 문자열은 빈 문자열로 저장
+    private static byte[] bytesOf(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.batch.writer;
+
+import com.project.batch.base.BaseWriter;
+import com.project.batch.model.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 가공된 Post를 TB_POST에 저장하는 Writer입니다.
+ * <p>
+ * 청크 하나를 PreparedStatement 하나로 묶어 JDBC 배치(addBatch/executeBatch)로 실행하므로
+ * 행마다 DB 왕복이 생기지 않습니다. MERGE(KEY id)로 저장해 같은 데이터를 다시 처리해도 중복되지 않습니다.
+ * Step 트랜잭션과 같은 DataSource를 사용하므로 청크 커밋/롤백에 함께 포함됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JdbcPostWriter extends BaseWriter<Post> {
+
+    private static final String MERGE_SQL =
+            "MERGE INTO tb_post (id, user_id, title, body, update_date) KEY (id) " +
+            "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected void doWrite(List<? extends Post> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // 배치 크기 = 청크 크기 → 청크당 executeBatch 한 번
+        int[][] results = jdbcTemplate.batchUpdate(MERGE_SQL, items, items.size(), (ps, post) -> {
+            ps.setLong(1, post.getId());
+            if (post.getUserId() != null) {
+                ps.setLong(2, post.getUserId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, post.getTitle());
+            ps.setString(4, post.getBody());
+        });
+
+        log.info("Persisted {} posts in {} batch(es)", items.size(), results.length);
+    }
+}
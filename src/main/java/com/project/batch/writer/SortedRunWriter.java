@@ -0,0 +1,124 @@
+package com.project.batch.writer;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
+import com.project.batch.model.Post;
+import com.project.batch.util.PostRecordCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 외부 정렬(External merge sort)의 1단계 - 파티션별 정렬된 런 파일 생성 Writer입니다.
+ * <p>
+ * 가공된 Post를 최대 run-size개까지만 메모리에 모았다가 정렬 키 순으로 정렬해 런 파일로 내보내므로,
+ * 읽는 페이지 수와 관계없이 파티션당 메모리는 run-size개로 제한됩니다.
+ * 런 파일은 Job 실행별 디렉터리에 모이고, 이후 SortedRunMergeReader가 k-way 병합해 실제 Writer로 넘깁니다.
+ * 런은 메모리 버퍼를 거치므로 정렬 모드의 partitionedJob은 재시작을 막고, 실패 시 새 실행으로 처음부터 다시 정렬합니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class SortedRunWriter implements ItemWriter<Post>, StepExecutionListener {
+
+    public static final String SORT_BY_ID = "id";
+    public static final String SORT_BY_USER_ID = "userId";
+
+    // id | userId (userId 정렬 시 같은 사용자 안에서는 id 순)
+    @Value("${batch.partition.sort.key:id}")
+    private String sortKey;
+
+    // 런 하나에 담을 최대 아이템 수 (파티션당 메모리 상한)
+    @Value("${batch.partition.sort.run-size:10000}")
+    private int runSize;
+
+    @Value("${batch.partition.sort.dir:./data/sort}")
+    private String sortDir;
+
+    private final List<Post> buffer = new ArrayList<>();
+    private Path runDirectory;
+    private long stepExecutionId;
+    private int runCount = 0;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        buffer.clear();
+        runDirectory = runDirectoryOf(sortDir, stepExecution.getJobExecutionId());
+        stepExecutionId = stepExecution.getId();
+        runCount = 0;
+    }
+
+    @Override
+    public void write(Chunk<? extends Post> chunk) throws Exception {
+        for (Post post : chunk) {
+            buffer.add(post);
+            if (buffer.size() >= runSize) {
+                spill();
+            }
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (!buffer.isEmpty()) {
+            try {
+                spill();
+            } catch (IOException e) {
+                log.error("Failed to write final sorted run: {}", e.getMessage(), e);
+                stepExecution.addFailureException(e);
+                return ExitStatus.FAILED;
+            }
+        }
+        log.info("Step {} wrote {} sorted run(s) under {}", stepExecution.getStepName(), runCount, runDirectory);
+        return null;
+    }
+
+    private void spill() throws IOException {
+        buffer.sort(comparatorFor(sortKey));
+
+        Files.createDirectories(runDirectory);
+        Path runFile = runDirectory.resolve("run-" + stepExecutionId + "-" + (runCount++) + ".bin");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+            for (Post post : buffer) {
+                PostRecordCodec.write(out, post);
+            }
+        }
+        log.info("Wrote sorted run {} ({} posts)", runFile.getFileName(), buffer.size());
+        buffer.clear();
+    }
+
+    public static Comparator<Post> comparatorFor(String sortKey) {
+        Comparator<Post> byId = Comparator.comparing(Post::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+        if (SORT_BY_USER_ID.equalsIgnoreCase(sortKey)) {
+            return Comparator.comparing(Post::getUserId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+                    .thenComparing(byId);
+        }
+        return byId;
+    }
+
+    /**
+     * Job 실행별 런 파일 디렉터리
+     */
+    public static Path runDirectoryOf(String sortDir, Long jobExecutionId) {
+        if (jobExecutionId == null) {
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR, "Job execution id is required");
+        }
+        return Paths.get(sortDir, "job-" + jobExecutionId);
+    }
+}
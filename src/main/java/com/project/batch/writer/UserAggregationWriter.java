@@ -0,0 +1,99 @@
+package com.project.batch.writer;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
+import com.project.batch.model.Post;
+import com.project.batch.util.UserStatsAccumulator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 파티션(workerStep)별 사용자 통계 집계 Writer입니다.
+ * <p>
+ * 아이템을 쌓아 두지 않고 UserStatsAccumulator에 바로 누적하며, 키 수가 max-keys-in-memory를 넘으면
+ * userId 순으로 정렬된 런 파일로 내보내고(spill) 비웁니다. Step 종료 시 남은 통계도 런 파일로 쓰므로,
+ * 모든 파티션의 결과는 Job 실행별 디렉터리에 정렬된 런 파일로 모이고 병합 Step(UserStatsMergeTasklet)이 합칩니다.
+ * 집계 결과가 메모리에 있으므로 userAggregationJob은 재시작을 막고, 실패 시 새 실행으로 처음부터 다시 집계합니다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class UserAggregationWriter implements ItemWriter<Post>, StepExecutionListener {
+
+    // 파티션당 메모리에 유지할 최대 사용자 수 - 넘으면 런 파일로 내보냄
+    @Value("${batch.aggregation.max-keys-in-memory:100000}")
+    private int maxKeysInMemory;
+
+    @Value("${batch.aggregation.spill-dir:./data/aggregation}")
+    private String spillDir;
+
+    private UserStatsAccumulator accumulator;
+    private Path runDirectory;
+    private long stepExecutionId;
+    private int runCount = 0;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        accumulator = new UserStatsAccumulator(Math.min(maxKeysInMemory, 1024));
+        runDirectory = runDirectoryOf(spillDir, stepExecution.getJobExecutionId());
+        stepExecutionId = stepExecution.getId();
+        runCount = 0;
+    }
+
+    @Override
+    public void write(Chunk<? extends Post> chunk) throws Exception {
+        for (Post post : chunk) {
+            long userId = post.getUserId() != null ? post.getUserId() : 0L;
+            long bodyLength = post.getBody() != null ? post.getBody().length() : 0L;
+            accumulator.add(userId, bodyLength);
+        }
+
+        if (accumulator.size() >= maxKeysInMemory) {
+            spill();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (accumulator.size() > 0) {
+            try {
+                spill();
+            } catch (IOException e) {
+                log.error("Failed to spill final aggregation run: {}", e.getMessage(), e);
+                stepExecution.addFailureException(e);
+                return ExitStatus.FAILED;
+            }
+        }
+        log.info("Step {} aggregated into {} run file(s) under {}", stepExecution.getStepName(), runCount, runDirectory);
+        return null;
+    }
+
+    private void spill() throws IOException {
+        Files.createDirectories(runDirectory);
+        Path runFile = runDirectory.resolve("run-" + stepExecutionId + "-" + (runCount++) + ".bin");
+        int keys = accumulator.spill(runFile);
+        log.info("Spilled {} user stats to {}", keys, runFile.getFileName());
+    }
+
+    /**
+     * Job 실행별 런 파일 디렉터리
+     */
+    public static Path runDirectoryOf(String spillDir, Long jobExecutionId) {
+        if (jobExecutionId == null) {
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR, "Job execution id is required");
+        }
+        return Paths.get(spillDir, "job-" + jobExecutionId);
+    }
+}
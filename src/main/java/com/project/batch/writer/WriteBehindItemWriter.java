@@ -0,0 +1,227 @@
+package com.project.batch.writer;
+
+import com.project.batch.constants.BatchConstants;
+import com.project.batch.exception.BatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 청크 스레드 대신 전용 Flusher 스레드가 실제 쓰기를 수행하는 Write-behind Writer입니다.
+ * <p>
+ * - write(): 청크를 크기가 제한된 큐에 넣고 바로 반환 (큐가 가득 차면 빈 자리가 날 때까지 대기 = 배압)
+ * - Flusher: 큐에 쌓인 청크를 최대 groupSize개까지 모아 하나의 트랜잭션으로 delegate에 기록 (그룹 커밋)
+ * - afterStep(): 큐가 모두 비워질 때까지 기다린 뒤 Step을 종료하고, 쓰기 실패가 있었으면 Step을 FAILED로 표시
+ * <p>
+ * 청크 커밋 이후에 비동기로 저장되므로 Step 트랜잭션과 원자적으로 묶이지 않습니다.
+ * Reader 체크포인트가 실제 기록보다 먼저 커밋되므로, 이 Writer를 쓰는 Job은 재시작을 막아야 합니다(preventRestart).
+ * delegate는 재실행해도 안전한(멱등) Writer를 사용해야 합니다. (예: MERGE 기반 JdbcPostWriter)
+ * 여러 파티션 Step이 하나의 인스턴스를 공유하며, 각 Step은 종료 시 전체 큐가 비워질 때까지 기다립니다.
+ * 쓰기 실패는 실패한 그룹에 청크가 들어 있던 Step 실행만 FAILED로 만들고, 다른 Step의 청크는 계속 기록합니다.
+ */
+@Slf4j
+public class WriteBehindItemWriter<T> implements ItemWriter<T>, StepExecutionListener, DisposableBean {
+
+    private final ItemWriter<T> delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingChunk<T>> queue;
+    private final int groupSize;
+
+    // 큐에 들어갔지만 아직 기록되지 않은 청크 수 (Flusher가 처리 중인 것 포함)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition drained = lock.newCondition();
+    private int pendingChunks = 0;
+
+    // Step 실행 ID별 첫 쓰기 실패
+    private final Map<Long, Throwable> failures = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    public WriteBehindItemWriter(ItemWriter<T> delegate, PlatformTransactionManager transactionManager,
+                                 int queueCapacity, int groupSize) {
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.groupSize = Math.max(1, groupSize);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        startFlusherIfNecessary();
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        Long stepExecutionId = currentStepExecutionId();
+        checkFailure(stepExecutionId);
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            pendingChunks++;
+        } finally {
+            lock.unlock();
+        }
+
+        // 청크 객체는 Step이 재사용하므로 아이템만 복사해서 넘김
+        List<T> items = new ArrayList<>(chunk.getItems());
+        try {
+            queue.put(new PendingChunk<>(stepExecutionId, items));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            onFlushed(1);
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR,
+                    "Interrupted while queueing chunk for write-behind", e);
+        }
+    }
+
+    /**
+     * 큐가 비워질 때까지 Step 종료를 지연합니다.
+     */
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        lock.lock();
+        try {
+            while (pendingChunks > 0 && running) {
+                drained.await(100, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+
+        Throwable failure = failures.remove(stepExecution.getId());
+        if (failure != null) {
+            stepExecution.setStatus(BatchStatus.FAILED);
+            stepExecution.addFailureException(failure);
+            return ExitStatus.FAILED.addExitDescription(failure);
+        }
+
+        log.info("Write-behind queue drained for step {}", stepExecution.getStepName());
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+    }
+
+    private synchronized void startFlusherIfNecessary() {
+        if (flusher != null && flusher.isAlive()) {
+            return;
+        }
+        flusher = new Thread(this::flushLoop, "WriteBehind-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    private void flushLoop() {
+        List<PendingChunk<T>> group = new ArrayList<>(groupSize);
+        while (running) {
+            try {
+                PendingChunk<T> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, groupSize - 1);
+
+                flush(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                if (!group.isEmpty()) {
+                    onFlushed(group.size());
+                    group.clear();
+                }
+            }
+        }
+    }
+
+    private void flush(List<PendingChunk<T>> group) {
+        // 이미 실패한 Step의 청크는 더 쓰지 않고 버림 (Step은 afterStep에서 FAILED 처리)
+        Chunk<T> merged = new Chunk<>();
+        for (PendingChunk<T> pending : group) {
+            if (!failures.containsKey(pending.stepExecutionId())) {
+                merged.addAll(pending.items());
+            }
+        }
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    delegate.write(merged);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR,
+                            "Write-behind flush failed", e);
+                }
+            });
+            log.debug("Write-behind flushed {} items from {} chunks", merged.size(), group.size());
+        } catch (Exception e) {
+            log.error("Write-behind flush of {} items failed: {}", merged.size(), e.getMessage(), e);
+            // 한 트랜잭션으로 묶인 그룹이므로 그룹에 청크가 있던 Step 모두 실패
+            for (PendingChunk<T> pending : group) {
+                failures.putIfAbsent(pending.stepExecutionId(), e);
+            }
+        }
+    }
+
+    private void onFlushed(int chunks) {
+        lock.lock();
+        try {
+            pendingChunks -= chunks;
+            if (pendingChunks <= 0) {
+                drained.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkFailure(Long stepExecutionId) {
+        Throwable error = failures.get(stepExecutionId);
+        if (error != null) {
+            throw new BatchException(BatchConstants.ErrorCodes.STEP_EXECUTION_ERROR,
+                    "Write-behind sink failed: " + error.getMessage(), error);
+        }
+    }
+
+    // Step 밖에서 호출되면 하나의 공용 ID(-1)로 묶음
+    private static Long currentStepExecutionId() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context != null ? context.getStepExecution().getId() : -1L;
+    }
+
+    private record PendingChunk<T>(Long stepExecutionId, List<T> items) {}
+}
@@ -8,3 +8,7 @@ DELETE FROM TB_SCHEDULER;
 -- 파티셔닝 병렬처리 Job (7분마다 실행 - 순차처리와 겹치지 않게)
 INSERT INTO TB_SCHEDULER (sche_name, job_name, job_param, job_type, cron_expression, trigger_name, use_yn, create_user)
 VALUES ('DefaultScheduler', 'partitionedJob', '', 'cron', '0 */1 * * * ?', 'partitionedJobTrigger', 'Y', 'SYSTEM');
+
+-- -- 단계 분리 파이프라인 Job
+-- INSERT INTO TB_SCHEDULER (sche_name, job_name, job_param, job_type, cron_expression, trigger_name, use_yn, create_user)
+-- VALUES ('DefaultScheduler', 'pipelineJob', '', 'cron', '0 */1 * * * ?', 'pipelineJobTrigger', 'Y', 'SYSTEM');
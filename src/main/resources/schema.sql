@@ -1,6 +1,9 @@
 DROP TABLE IF EXISTS person;
 DROP TABLE IF EXISTS processed_person;
 DROP TABLE IF EXISTS TB_SCHEDULER;
+DROP TABLE IF EXISTS TB_PARTITION_WORK;
+DROP TABLE IF EXISTS TB_POST;
+DROP TABLE IF EXISTS TB_USER_POST_STATS;
 
 
 CREATE TABLE person (
@@ -37,6 +40,53 @@ CREATE INDEX idx_scheduler_job_name ON TB_SCHEDULER(job_name);
 CREATE INDEX idx_scheduler_sche_name ON TB_SCHEDULER(sche_name);
 CREATE INDEX idx_scheduler_use_yn ON TB_SCHEDULER(use_yn);
 
+-- TB_PARTITION_WORK table for dynamic partitioning (work queue of page blocks)
+CREATE TABLE TB_PARTITION_WORK (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    queue_key VARCHAR(100) NOT NULL,
+    start_page INT NOT NULL,
+    end_page INT NOT NULL,
+    status VARCHAR(10) NOT NULL DEFAULT 'READY',
+    claimed_by INT,
+    create_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    update_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_partition_work_queue ON TB_PARTITION_WORK(queue_key, status, start_page);
+
+-- TB_POST table for processed posts (JdbcPostWriter)
+CREATE TABLE TB_POST (
+    id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT,
+    title VARCHAR(500),
+    body VARCHAR(2000),
+    create_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    update_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_post_user_id ON TB_POST(user_id);
+
+-- TB_SYNC_STATE table for incremental (delta) sync high-water marks
+-- (kept across restarts so the next run continues from the last completed mark)
+CREATE TABLE IF NOT EXISTS TB_SYNC_STATE (
+    job_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    high_water_mark BIGINT NOT NULL DEFAULT 0,
+    runs_since_full INT NOT NULL DEFAULT 0,
+    last_full_sync_date TIMESTAMP,
+    update_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- TB_USER_POST_STATS table for per-user aggregation (userAggregationJob)
+CREATE TABLE TB_USER_POST_STATS (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    post_count BIGINT NOT NULL,
+    total_body_length BIGINT NOT NULL,
+    min_body_length BIGINT NOT NULL,
+    max_body_length BIGINT NOT NULL,
+    avg_body_length DOUBLE,
+    update_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Spring Batch Metadata Tables (H2 syntax)
 CREATE TABLE BATCH_JOB_INSTANCE  (
     JOB_INSTANCE_ID BIGINT AUTO_INCREMENT NOT NULL PRIMARY KEY,
@@ -0,0 +1,128 @@
+package com.project.batch.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PageArchiveTest {
+
+    @TempDir
+    Path archiveDir;
+
+    @Test
+    void recordedPagesReplayForEveryCodec() throws IOException {
+        for (String codec : new String[]{"none", "deflate", "gzip"}) {
+            Path dir = archiveDir.resolve(codec);
+            PageArchive recorder = archive(PageArchive.MODE_RECORD, dir, codec);
+            recorder.record("/posts?_page=1", body("page-1"));
+            recorder.record("/posts?_page=2", body("page-2"));
+            // 같은 URL을 다시 녹화하면 마지막 기록이 유효
+            recorder.record("/posts?_page=1", body("page-1-updated"));
+            recorder.destroy();
+
+            PageArchive replayer = archive(PageArchive.MODE_REPLAY, dir, "none");
+            assertEquals("page-1-updated", read(replayer, "/posts?_page=1"), codec);
+            assertEquals("page-2", read(replayer, "/posts?_page=2"), codec);
+            assertNull(replayer.open("/posts?_page=3"), codec);
+            replayer.destroy();
+        }
+    }
+
+    @Test
+    void entriesRecordedWithAnotherCodecStayReadable() throws IOException {
+        PageArchive first = archive(PageArchive.MODE_RECORD, archiveDir, "gzip");
+        first.record("/posts?_page=1", body("gzip-page"));
+        first.destroy();
+
+        PageArchive second = archive(PageArchive.MODE_RECORD, archiveDir, "none");
+        second.record("/posts?_page=2", body("plain-page"));
+        second.destroy();
+
+        PageArchive replayer = archive(PageArchive.MODE_REPLAY, archiveDir, "deflate");
+        assertEquals("gzip-page", read(replayer, "/posts?_page=1"));
+        assertEquals("plain-page", read(replayer, "/posts?_page=2"));
+        replayer.destroy();
+    }
+
+    @Test
+    void truncatedIndexRecordIsDroppedAndRecordingResumes() throws IOException {
+        PageArchive recorder = archive(PageArchive.MODE_RECORD, archiveDir, "none");
+        recorder.record("/posts?_page=1", body("page-1"));
+        recorder.record("/posts?_page=2", body("page-2"));
+        recorder.destroy();
+
+        // 기록 도중 끊긴 것처럼 인덱스 끝에 불완전한 기록(키 길이 + 키 일부)을 붙임
+        Path index = archiveDir.resolve("pages.idx");
+        long intact = Files.size(index);
+        Files.write(index, new byte[]{0, 20, '/', 'p', 'o'}, StandardOpenOption.APPEND);
+
+        PageArchive resumed = archive(PageArchive.MODE_RECORD, archiveDir, "none");
+        resumed.record("/posts?_page=3", body("page-3"));
+        assertEquals(3, resumed.size());
+        resumed.destroy();
+        // 끊긴 꼬리를 잘라낸 뒤 새 기록을 이어 붙였으므로 인덱스는 온전한 기록만 담음
+        assertEquals(intact + recordBytes("/posts?_page=3"), Files.size(index));
+
+        PageArchive replayer = archive(PageArchive.MODE_REPLAY, archiveDir, "none");
+        assertEquals("page-1", read(replayer, "/posts?_page=1"));
+        assertEquals("page-2", read(replayer, "/posts?_page=2"));
+        assertEquals("page-3", read(replayer, "/posts?_page=3"));
+        assertEquals(3, replayer.size());
+        replayer.destroy();
+    }
+
+    @Test
+    void indexWithoutHeaderIsTreatedAsEmpty() throws IOException {
+        Files.write(archiveDir.resolve("pages.idx"), new byte[]{0, 3, 'a', 'b', 'c', 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1});
+        Files.write(archiveDir.resolve("pages.dat"), body("x"));
+
+        PageArchive replayer = archive(PageArchive.MODE_REPLAY, archiveDir, "none");
+        assertNull(replayer.open("abc"));
+        assertEquals(0, replayer.size());
+        replayer.destroy();
+
+        // record 모드에서는 헤더부터 새 인덱스로 다시 시작
+        PageArchive recorder = archive(PageArchive.MODE_RECORD, archiveDir, "none");
+        recorder.record("/posts?_page=1", body("page-1"));
+        recorder.destroy();
+
+        PageArchive reopened = archive(PageArchive.MODE_REPLAY, archiveDir, "none");
+        assertEquals("page-1", read(reopened, "/posts?_page=1"));
+        assertEquals(1, reopened.size());
+        reopened.destroy();
+    }
+
+    // 보관소는 첫 open/record 때 파일을 열므로 size()는 그 뒤에 확인
+    private static PageArchive archive(String mode, Path dir, String codec) {
+        PageArchive archive = new PageArchive();
+        ReflectionTestUtils.setField(archive, "mode", mode);
+        ReflectionTestUtils.setField(archive, "archiveDir", dir.toString());
+        ReflectionTestUtils.setField(archive, "storageCodec", codec);
+        return archive;
+    }
+
+    private static String read(PageArchive archive, String key) throws IOException {
+        try (InputStream in = archive.open(key)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] body(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 인덱스 기록 하나의 크기: writeUTF(키) + 압축 방식(1) + offset(8) + length(4)
+    private static long recordBytes(String key) {
+        return 2 + key.getBytes(StandardCharsets.UTF_8).length + 1 + Long.BYTES + Integer.BYTES;
+    }
+}
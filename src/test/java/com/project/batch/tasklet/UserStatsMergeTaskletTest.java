@@ -0,0 +1,112 @@
+package com.project.batch.tasklet;
+
+import com.project.batch.util.UserStatsAccumulator;
+import com.project.batch.writer.UserAggregationWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class UserStatsMergeTaskletTest {
+
+    private static final long JOB_EXECUTION_ID = 1L;
+
+    @TempDir
+    Path spillDir;
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE tb_user_post_stats (" +
+                "user_id BIGINT NOT NULL PRIMARY KEY, post_count BIGINT NOT NULL, " +
+                "total_body_length BIGINT NOT NULL, min_body_length BIGINT NOT NULL, " +
+                "max_body_length BIGINT NOT NULL, avg_body_length DOUBLE, update_date TIMESTAMP)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void mergesMinMaxAndTotalsAcrossRuns() throws Exception {
+        Path runDirectory = UserAggregationWriter.runDirectoryOf(spillDir.toString(), JOB_EXECUTION_ID);
+        Files.createDirectories(runDirectory);
+
+        // 사용자 1은 세 런에 나뉘어 있고, 최소/최대가 서로 다른 런에 있음
+        UserStatsAccumulator accumulator = new UserStatsAccumulator(8);
+        accumulator.add(1, 40);
+        accumulator.add(2, 5);
+        accumulator.spill(runDirectory.resolve("run-0.bin"));
+
+        accumulator.add(1, 10);
+        accumulator.add(3, 8);
+        accumulator.spill(runDirectory.resolve("run-1.bin"));
+
+        accumulator.add(1, 90);
+        accumulator.add(1, 20);
+        accumulator.spill(runDirectory.resolve("run-2.bin"));
+
+        StepExecution stepExecution = new StepExecution("mergeStep",
+                new JobExecution(new JobInstance(1L, "userAggregationJob"), JOB_EXECUTION_ID, new JobParameters()));
+        StepContribution contribution = new StepContribution(stepExecution);
+
+        new UserStatsMergeTasklet(jdbcTemplate, spillDir.toString(), 2)
+                .execute(contribution, new ChunkContext(new StepContext(stepExecution)));
+
+        assertEquals(3, contribution.getWriteCount());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_user_post_stats", Integer.class));
+
+        Map<String, Object> user1 = jdbcTemplate.queryForMap(
+                "SELECT post_count, total_body_length, min_body_length, max_body_length, avg_body_length " +
+                "FROM tb_user_post_stats WHERE user_id = 1");
+        assertEquals(4L, ((Number) user1.get("POST_COUNT")).longValue());
+        assertEquals(160L, ((Number) user1.get("TOTAL_BODY_LENGTH")).longValue());
+        assertEquals(10L, ((Number) user1.get("MIN_BODY_LENGTH")).longValue());
+        assertEquals(90L, ((Number) user1.get("MAX_BODY_LENGTH")).longValue());
+        assertEquals(40.0, ((Number) user1.get("AVG_BODY_LENGTH")).doubleValue(), 0.0001);
+
+        assertEquals(5L, jdbcTemplate.queryForObject(
+                "SELECT max_body_length FROM tb_user_post_stats WHERE user_id = 2", Long.class));
+        // 병합이 끝나면 런 디렉터리를 지움
+        assertFalse(Files.exists(runDirectory));
+    }
+
+    @Test
+    void finishesWhenNoRunsExist() throws Exception {
+        StepExecution stepExecution = new StepExecution("mergeStep",
+                new JobExecution(new JobInstance(1L, "userAggregationJob"), JOB_EXECUTION_ID, new JobParameters()));
+        StepContribution contribution = new StepContribution(stepExecution);
+
+        new UserStatsMergeTasklet(jdbcTemplate, spillDir.toString(), 10)
+                .execute(contribution, new ChunkContext(new StepContext(stepExecution)));
+
+        assertEquals(0, contribution.getWriteCount());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_user_post_stats", Integer.class));
+    }
+}
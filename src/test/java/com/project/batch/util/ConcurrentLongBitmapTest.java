@@ -0,0 +1,112 @@
+package com.project.batch.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentLongBitmapTest {
+
+    // 블록 크기(65,536) 단위로 올림되므로 maxId=100이면 0~65535가 비트맵 범위
+    private static final int BLOCK = 1 << 16;
+
+    @Test
+    void addReturnsTrueOnlyForFirstInsert() {
+        ConcurrentLongBitmap bitmap = new ConcurrentLongBitmap(100);
+
+        assertFalse(bitmap.contains(42));
+        assertTrue(bitmap.add(42));
+        assertFalse(bitmap.add(42));
+        assertTrue(bitmap.contains(42));
+        assertFalse(bitmap.contains(43));
+    }
+
+    @Test
+    void idsOnBlockAndWordBoundariesAreIndependent() {
+        ConcurrentLongBitmap bitmap = new ConcurrentLongBitmap(3L * BLOCK);
+
+        long[] ids = {0, 63, 64, BLOCK - 1, BLOCK, 2L * BLOCK + 1, 3L * BLOCK - 1};
+        for (long id : ids) {
+            assertTrue(bitmap.add(id), "first add of " + id);
+        }
+        for (long id : ids) {
+            assertTrue(bitmap.contains(id), "contains " + id);
+            assertFalse(bitmap.add(id), "second add of " + id);
+        }
+        assertFalse(bitmap.contains(1));
+        assertFalse(bitmap.contains(BLOCK + 1));
+    }
+
+    @Test
+    void idsOutsideBitmapRangeUseOverflow() {
+        ConcurrentLongBitmap bitmap = new ConcurrentLongBitmap(100);
+
+        long[] ids = {-1, Long.MIN_VALUE, BLOCK, Long.MAX_VALUE};
+        for (long id : ids) {
+            assertFalse(bitmap.contains(id));
+            assertTrue(bitmap.add(id), "first add of " + id);
+            assertFalse(bitmap.add(id), "second add of " + id);
+            assertTrue(bitmap.contains(id));
+        }
+        // 오버플로 맵의 빈 슬롯 표시(0)와 겹치지 않음
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.add(0));
+    }
+
+    @Test
+    void concurrentAddsReportEachIdExactlyOnce() throws Exception {
+        int threads = 8;
+        int idsPerThread = 4 * BLOCK;
+        ConcurrentLongBitmap bitmap = new ConcurrentLongBitmap(idsPerThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            // 모든 스레드가 같은 ID를 같은 순서로 추가 - 블록 생성과 같은 워드의 CAS가 경합
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int added = 0;
+                    for (long id = 0; id < idsPerThread; id++) {
+                        if (bitmap.add(id)) {
+                            added++;
+                        }
+                    }
+                    // 범위를 벗어난 ID도 함께 경합
+                    for (long id = -1; id >= -1000; id--) {
+                        if (bitmap.add(id)) {
+                            added++;
+                        }
+                    }
+                    return added;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(30, TimeUnit.SECONDS);
+            }
+            assertEquals(idsPerThread + 1000, total);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (long id = 0; id < idsPerThread; id++) {
+            if (!bitmap.contains(id)) {
+                throw new AssertionError("missing id " + id);
+            }
+        }
+        assertTrue(bitmap.contains(-1000));
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.batch.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongLongHashMapTest {
+
+    @Test
+    void putOverwritesExistingKey() {
+        LongLongHashMap map = new LongLongHashMap(8);
+
+        map.put(7, 1);
+        map.put(7, 2);
+
+        assertEquals(1, map.size());
+        assertEquals(2, map.get(7, -1));
+        assertEquals(-1, map.get(8, -1));
+        assertFalse(map.containsKey(8));
+    }
+
+    @Test
+    void zeroAndExtremeKeysAreStored() {
+        LongLongHashMap map = new LongLongHashMap(8);
+
+        map.put(0, 10);
+        map.put(Long.MIN_VALUE, 20);
+        map.put(Long.MAX_VALUE, 30);
+        map.put(-1, 40);
+
+        assertEquals(4, map.size());
+        assertTrue(map.containsKey(0));
+        assertEquals(10, map.get(0, -1));
+        assertEquals(20, map.get(Long.MIN_VALUE, -1));
+        assertEquals(30, map.get(Long.MAX_VALUE, -1));
+        assertEquals(40, map.get(-1, 0));
+
+        Map<Long, Long> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(Map.of(0L, 10L, Long.MIN_VALUE, 20L, Long.MAX_VALUE, 30L, -1L, 40L), visited);
+    }
+
+    @Test
+    void rehashKeepsAllEntries() {
+        LongLongHashMap map = new LongLongHashMap(8);
+        int count = 100_000;
+
+        // 연속 ID와 큰 간격의 ID를 섞어 여러 번 두 배 확장되게 함
+        for (long i = 1; i <= count; i++) {
+            map.put(i, i * 3);
+            map.put(i << 32, -i);
+        }
+
+        assertEquals(2 * count, map.size());
+        for (long i = 1; i <= count; i++) {
+            assertEquals(i * 3, map.get(i, 0));
+            assertEquals(-i, map.get(i << 32, 0));
+        }
+
+        long[] entries = {0};
+        map.forEach((key, value) -> entries[0]++);
+        assertEquals(2L * count, entries[0]);
+    }
+
+    @Test
+    void clearRemovesEveryKey() {
+        LongLongHashMap map = new LongLongHashMap(8);
+        for (long i = 0; i < 100; i++) {
+            map.put(i, i);
+        }
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(50));
+        map.put(50, 1);
+        assertEquals(1, map.get(50, 0));
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.batch.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StorageCodecTest {
+
+    private static final byte[] BODY = "[{\"id\":1,\"title\":\"sunt aut facere\"},{\"id\":2,\"title\":\"qui est esse\"}]"
+            .repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void everyCodecRoundTrips() throws IOException {
+        for (StorageCodec codec : StorageCodec.values()) {
+            assertArrayEquals(BODY, decode(codec, codec.encode(BODY)), codec.name());
+            assertArrayEquals(new byte[0], decode(codec, codec.encode(new byte[0])), codec.name() + " empty");
+        }
+    }
+
+    @Test
+    void compressingCodecsShrinkRepetitiveBodies() throws IOException {
+        assertTrue(StorageCodec.DEFLATE.encode(BODY).length < BODY.length);
+        assertTrue(StorageCodec.GZIP.encode(BODY).length < BODY.length);
+    }
+
+    @Test
+    void idAndNameLookupMatch() {
+        for (StorageCodec codec : StorageCodec.values()) {
+            assertEquals(codec, StorageCodec.fromId(codec.id()));
+            assertEquals(codec, StorageCodec.of(" " + codec.name().toLowerCase() + " "));
+        }
+        assertThrows(IllegalArgumentException.class, () -> StorageCodec.fromId(99));
+        assertThrows(IllegalArgumentException.class, () -> StorageCodec.of("lz4"));
+    }
+
+    private static byte[] decode(StorageCodec codec, byte[] encoded) throws IOException {
+        try (InputStream in = codec.decode(new ByteArrayInputStream(encoded))) {
+            return in.readAllBytes();
+        }
+    }
+}
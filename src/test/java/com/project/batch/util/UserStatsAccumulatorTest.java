@@ -0,0 +1,94 @@
+package com.project.batch.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserStatsAccumulatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void spillWritesRecordsSortedByUserId() throws IOException {
+        UserStatsAccumulator accumulator = new UserStatsAccumulator(8);
+        // 해시 순서와 무관하게 정렬되는지 보려고 음수/큰 값을 섞고 여러 번 확장되게 함
+        long[] userIds = {42, -7, 0, Long.MAX_VALUE, 3, 1_000_000_007L, -1};
+        for (long userId : userIds) {
+            accumulator.add(userId, 10);
+        }
+        for (long userId = 100; userId < 1_100; userId++) {
+            accumulator.add(userId, 1);
+        }
+
+        Path run = tempDir.resolve("run-0.bin");
+        int written = accumulator.spill(run);
+
+        List<long[]> records = readRun(run);
+        assertEquals(userIds.length + 1_000, written);
+        assertEquals(written, records.size());
+        assertEquals(written * (long) UserStatsAccumulator.RECORD_BYTES, Files.size(run));
+        for (int i = 1; i < records.size(); i++) {
+            long previous = records.get(i - 1)[0];
+            long current = records.get(i)[0];
+            if (previous >= current) {
+                throw new AssertionError("run is not sorted at " + i + ": " + previous + " >= " + current);
+            }
+        }
+        assertEquals(-7, records.get(0)[0]);
+        assertEquals(Long.MAX_VALUE, records.get(records.size() - 1)[0]);
+    }
+
+    @Test
+    void addKeepsCountSumMinMaxPerUser() throws IOException {
+        UserStatsAccumulator accumulator = new UserStatsAccumulator(8);
+        accumulator.add(1, 30);
+        accumulator.add(2, 5);
+        accumulator.add(1, 10);
+        accumulator.add(1, 50);
+
+        Path run = tempDir.resolve("run-0.bin");
+        accumulator.spill(run);
+
+        List<long[]> records = readRun(run);
+        assertEquals(2, records.size());
+        assertArrayEquals(new long[]{1, 3, 90, 10, 50}, records.get(0));
+        assertArrayEquals(new long[]{2, 1, 5, 5, 5}, records.get(1));
+    }
+
+    @Test
+    void spillClearsAccumulator() throws IOException {
+        UserStatsAccumulator accumulator = new UserStatsAccumulator(8);
+        accumulator.add(1, 100);
+
+        accumulator.spill(tempDir.resolve("run-0.bin"));
+        assertEquals(0, accumulator.size());
+
+        // 비운 뒤 다시 누적하면 이전 런의 값이 섞이지 않음
+        accumulator.add(1, 7);
+        Path second = tempDir.resolve("run-1.bin");
+        assertEquals(1, accumulator.spill(second));
+        assertArrayEquals(new long[]{1, 1, 7, 7, 7}, readRun(second).get(0));
+    }
+
+    private static List<long[]> readRun(Path run) throws IOException {
+        List<long[]> records = new ArrayList<>();
+        long recordCount = Files.size(run) / UserStatsAccumulator.RECORD_BYTES;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)))) {
+            for (long i = 0; i < recordCount; i++) {
+                records.add(new long[]{in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong()});
+            }
+        }
+        return records;
+    }
+}